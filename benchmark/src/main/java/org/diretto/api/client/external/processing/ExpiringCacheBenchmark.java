@@ -0,0 +1,130 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the {@link ExpiringCache}, which holds the result
+ * {@code URL}s and the validation results of the {@link ProcessingService}.
+ * <br/><br/>
+ * 
+ * The cache is filled before the measurement. The {@code keys} parameter
+ * determines the number of distinct keys: with fewer keys than entries every
+ * lookup is a hit, with more keys the cache evicts entries and reloads them. The {@code *Concurrently} benchmarks
+ * access the cache from several threads, so they show the contention of the
+ * hit path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpiringCacheBenchmark
+{
+	private static final int MAX_SIZE = 1024;
+
+	@Param({"512", "4096"})
+	public int keys;
+
+	private ExpiringCache<String, String> cache;
+
+	private String[] keyStrings;
+
+	private Callable<String> loader;
+
+	@Setup
+	public void setUp()
+	{
+		cache = new ExpiringCache<String, String>(MAX_SIZE, 60000);
+		keyStrings = new String[keys];
+
+		for(int i = 0; i < keys; i++)
+		{
+			keyStrings[i] = "http://processing.example.org/v2/process/generic/thumbnail?item=" + i + "&async=false&size=128";
+		}
+
+		loader = new Callable<String>()
+		{
+			@Override
+			public String call() throws Exception
+			{
+				return "http://processing.example.org/v2/results/thumbnail.jpg";
+			}
+		};
+
+		for(String keyString : keyStrings)
+		{
+			cache.get(keyString, loader);
+		}
+	}
+
+	@Benchmark
+	public String get(KeyCursor cursor)
+	{
+		return cache.get(keyStrings[cursor.next(keys)], loader);
+	}
+
+	@Benchmark
+	public String getIfPresent(KeyCursor cursor)
+	{
+		return cache.getIfPresent(keyStrings[cursor.next(keys)]);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String getConcurrently(KeyCursor cursor)
+	{
+		return cache.get(keyStrings[cursor.next(keys)], loader);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public String getIfPresentConcurrently(KeyCursor cursor)
+	{
+		return cache.getIfPresent(keyStrings[cursor.next(keys)]);
+	}
+
+	@Benchmark
+	public void put(KeyCursor cursor)
+	{
+		String key = keyStrings[cursor.next(keys)];
+
+		cache.put(key, key);
+	}
+
+	/**
+	 * This class walks through the keys per thread.
+	 */
+	@State(Scope.Thread)
+	public static class KeyCursor
+	{
+		private int index = 0;
+
+		/**
+		 * Returns the next index.
+		 * 
+		 * @param count The number of indices
+		 * @return The next index ({@code 0 <= index < count})
+		 */
+		int next(int count)
+		{
+			index = (index + 1) % count;
+
+			return index;
+		}
+	}
+}
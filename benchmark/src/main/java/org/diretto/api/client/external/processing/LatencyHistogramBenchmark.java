@@ -0,0 +1,84 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the {@link LatencyHistogram}, which records the
+ * latency of every request of the {@link ProcessingService}. The recording is
+ * measured with one thread and with concurrent threads, since all requests of
+ * an {@code Operation} share one histogram.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LatencyHistogramBenchmark
+{
+	private LatencyHistogram histogram;
+
+	@Setup
+	public void setUp()
+	{
+		histogram = new LatencyHistogram();
+
+		for(long durationNanos = 1000; durationNanos < 10000000000L; durationNanos = durationNanos * 11 / 10)
+		{
+			histogram.record(durationNanos);
+		}
+	}
+
+	@Benchmark
+	public void record(DurationCursor cursor)
+	{
+		histogram.record(cursor.next());
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void recordConcurrently(DurationCursor cursor)
+	{
+		histogram.record(cursor.next());
+	}
+
+	@Benchmark
+	public long getPercentile()
+	{
+		return histogram.getPercentile(99.0, TimeUnit.MICROSECONDS);
+	}
+
+	/**
+	 * This class provides a sequence of durations per thread, which covers
+	 * several magnitudes.
+	 */
+	@State(Scope.Thread)
+	public static class DurationCursor
+	{
+		private long durationNanos = 1000;
+
+		/**
+		 * Returns the next duration.
+		 * 
+		 * @return The duration in nanoseconds
+		 */
+		long next()
+		{
+			durationNanos = durationNanos < 1000000000L ? durationNanos * 3 + 7 : 1000;
+
+			return durationNanos;
+		}
+	}
+}
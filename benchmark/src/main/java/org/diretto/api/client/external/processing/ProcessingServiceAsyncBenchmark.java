@@ -0,0 +1,128 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.diretto.api.client.external.processing.ProcessingService.Fixed;
+import org.diretto.api.client.external.processing.ProcessingServiceState.ResourceCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the asynchronous methods of the
+ * {@link ProcessingService}: the {@code *Async} methods, the callback variant,
+ * the batches, the filmstrips and the jobs. Every invocation waits for the
+ * complete result, so the sample time is the end-to-end latency. <br/><br/>
+ * 
+ * <i>Annotation:</i> Failed requests (e.g. with {@code statusCode = 404}) are
+ * part of the measurement, so their exceptions are caught and returned.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessingServiceAsyncBenchmark
+{
+	private static final int BATCH_SIZE = 16;
+
+	private static final int FILMSTRIP_SIZE = 8;
+
+	@Benchmark
+	public Object thumbnailAsync(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.getThumbnailURLAsync(state.videoDocumentIDs[cursor.next(state)], 128).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object imageAsync(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.getImageURLAsync(state.imageDocumentIDs[cursor.next(state)], 640, Fixed.WIDTH).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object videoSnapshotAsync(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.getVideoSnapshotURLAsync(state.videoDocumentIDs[cursor.next(state)], 640, Fixed.WIDTH, 0.5f).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object resultURLAsync(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.getResultURLAsync(ProcessingRequest.thumbnail(state.videoDocumentIDs[cursor.next(state)], 128), 0, TimeUnit.MILLISECONDS, null).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+
+	@Benchmark
+	public List<ProcessingResult> resultURLs(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		List<ProcessingRequest> requests = new ArrayList<ProcessingRequest>(BATCH_SIZE);
+
+		for(int i = 0; i < BATCH_SIZE; i++)
+		{
+			requests.add(ProcessingRequest.thumbnail(state.videoDocumentIDs[cursor.next(state)], 128));
+		}
+
+		return state.processingService.getResultURLs(requests);
+	}
+
+	@Benchmark
+	public Object filmstrip(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.getFilmstripURLs(state.videoDocumentIDs[cursor.next(state)], 160, Fixed.WIDTH, FILMSTRIP_SIZE, null).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object job(ProcessingServiceState state, ResourceCursor cursor) throws InterruptedException
+	{
+		try
+		{
+			return state.processingService.submitJob(ProcessingRequest.videoSnapshot(state.videoDocumentIDs[cursor.next(state)], 640, Fixed.WIDTH, 0.5f)).get();
+		}
+		catch(ExecutionException e)
+		{
+			return e;
+		}
+	}
+}
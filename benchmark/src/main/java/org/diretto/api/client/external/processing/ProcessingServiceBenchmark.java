@@ -0,0 +1,73 @@
+package org.diretto.api.client.external.processing;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.diretto.api.client.external.processing.ProcessingService.Fixed;
+import org.diretto.api.client.external.processing.ProcessingServiceState.ResourceCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the blocking {@code URL} methods of the
+ * {@link ProcessingService} for {@code Document}s and {@code Attachment}s in
+ * both {@code immediate} modes. <br/><br/>
+ * 
+ * The sample time mode reports the throughput as well as the latency
+ * percentiles. The allocation rate is reported with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessingServiceBenchmark
+{
+	@Param({"true", "false"})
+	public boolean immediate;
+
+	@Benchmark
+	public URL thumbnailOfDocument(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getThumbnailURL(state.videoDocumentIDs[cursor.next(state)], 128, immediate);
+	}
+
+	@Benchmark
+	public URL thumbnailOfAttachment(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getThumbnailURL(state.videoAttachmentIDs[cursor.next(state)], 128, immediate);
+	}
+
+	@Benchmark
+	public URL imageOfDocument(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getImageURL(state.imageDocumentIDs[cursor.next(state)], 640, Fixed.WIDTH, immediate);
+	}
+
+	@Benchmark
+	public URL imageOfAttachment(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getImageURL(state.imageAttachmentIDs[cursor.next(state)], 640, Fixed.WIDTH, immediate);
+	}
+
+	@Benchmark
+	public URL videoSnapshotOfDocument(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getVideoSnapshotURL(state.videoDocumentIDs[cursor.next(state)], 640, Fixed.WIDTH, 0.5f, immediate);
+	}
+
+	@Benchmark
+	public URL videoSnapshotOfAttachment(ProcessingServiceState state, ResourceCursor cursor)
+	{
+		return state.processingService.getVideoSnapshotURL(state.videoAttachmentIDs[cursor.next(state)], 640, Fixed.WIDTH, 0.5f, immediate);
+	}
+}
@@ -0,0 +1,110 @@
+package org.diretto.api.client.external.processing;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.diretto.api.client.external.processing.ProcessingService.ValidationMode;
+import org.diretto.api.client.main.core.entities.AttachmentID;
+import org.diretto.api.client.main.core.entities.DocumentID;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * This class holds a {@link ProcessingService} which uses a
+ * {@link StubProcessingServer} and a stubbed {@code CoreService}. <br/><br/>
+ * 
+ * The parameters determine the responses of the stub server, the
+ * {@link ValidationMode} and the number of distinct resources. With one
+ * resource the result cache and the validation cache are always hit, with
+ * more resources than cache entries (see the XML configuration file) every
+ * request reaches the stub server.
+ */
+@State(Scope.Benchmark)
+public class ProcessingServiceState
+{
+	@Param({"303", "404"})
+	public int statusCode;
+
+	@Param({"0", "20"})
+	public long renderLatencyMillis;
+
+	@Param({"1"})
+	public int pendingPolls;
+
+	@Param({"LOCAL", "CACHED", "REMOTE"})
+	public String validationMode;
+
+	@Param({"0"})
+	public long lookupLatencyMillis;
+
+	@Param({"1", "8192"})
+	public int resources;
+
+	ProcessingService processingService;
+
+	DocumentID[] imageDocumentIDs;
+
+	DocumentID[] videoDocumentIDs;
+
+	AttachmentID[] imageAttachmentIDs;
+
+	AttachmentID[] videoAttachmentIDs;
+
+	private StubProcessingServer server;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException
+	{
+		server = new StubProcessingServer(256);
+		server.configure(statusCode, renderLatencyMillis, pendingPolls);
+
+		processingService = ProcessingServiceImpl.getInstance(server.getServiceURL(), StubCore.javaClient(lookupLatencyMillis));
+		processingService.setValidationMode(ValidationMode.valueOf(validationMode));
+
+		imageDocumentIDs = new DocumentID[resources];
+		videoDocumentIDs = new DocumentID[resources];
+		imageAttachmentIDs = new AttachmentID[resources];
+		videoAttachmentIDs = new AttachmentID[resources];
+
+		for(int i = 0; i < resources; i++)
+		{
+			imageDocumentIDs[i] = StubCore.documentID(new URL("http://core.example.org/v2/document/image-" + i));
+			videoDocumentIDs[i] = StubCore.documentID(new URL("http://core.example.org/v2/document/video-" + i));
+			imageAttachmentIDs[i] = StubCore.attachmentID(imageDocumentIDs[i], new URL("http://core.example.org/v2/document/image-" + i + "/attachment/original"));
+			videoAttachmentIDs[i] = StubCore.attachmentID(videoDocumentIDs[i], new URL("http://core.example.org/v2/document/video-" + i + "/attachment/original"));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		processingService.shutdown();
+		server.stop();
+	}
+
+	/**
+	 * This class walks through the resources per thread.
+	 */
+	@State(Scope.Thread)
+	public static class ResourceCursor
+	{
+		private int index = 0;
+
+		/**
+		 * Returns the index of the next resource.
+		 * 
+		 * @param state The {@code ProcessingServiceState}
+		 * @return The index of the next resource
+		 */
+		int next(ProcessingServiceState state)
+		{
+			index = (index + 1) % state.resources;
+
+			return index;
+		}
+	}
+}
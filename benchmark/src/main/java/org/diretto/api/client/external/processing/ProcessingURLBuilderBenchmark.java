@@ -0,0 +1,132 @@
+package org.diretto.api.client.external.processing;
+
+import java.io.UnsupportedEncodingException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the {@link ProcessingURLBuilder} against the former
+ * {@code String} concatenation of the request {@code URL}s, which encoded the
+ * unique resource {@code URL} on every invocation. <br/><br/>
+ * 
+ * The {@code *ReusedURL} benchmarks pass the same unique resource {@code URL}
+ * object on every invocation, which is the allocation-free case of the
+ * encoded {@code URL} cache. The {@code *FreshURL} benchmarks pass equal but
+ * distinct {@code URL} objects, so the identity lookup misses and the lookup
+ * by the {@code String} representation is measured. The allocations per
+ * operation are reported with {@code -prof gc}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProcessingURLBuilderBenchmark
+{
+	private static final int FRESH_URL_COUNT = 1 << 16;
+
+	private URL serviceURL;
+
+	private ProcessingURLBuilder urlBuilder;
+
+	private URL uniqueResourceURL;
+
+	private URL[] freshURLs;
+
+	private int freshURLIndex = 0;
+
+	@Setup
+	public void setUp() throws MalformedURLException
+	{
+		serviceURL = new URL("http://processing.example.org/v2");
+		urlBuilder = new ProcessingURLBuilder(serviceURL);
+		uniqueResourceURL = new URL("http://core.example.org/v2/document/video-42/attachment/original");
+		freshURLs = new URL[FRESH_URL_COUNT];
+
+		for(int i = 0; i < FRESH_URL_COUNT; i++)
+		{
+			freshURLs[i] = new URL(uniqueResourceURL.toExternalForm());
+		}
+	}
+
+	@Benchmark
+	public String thumbnailReusedURL()
+	{
+		return urlBuilder.buildThumbnailURLString(uniqueResourceURL, 128, false);
+	}
+
+	@Benchmark
+	public String thumbnailFreshURL()
+	{
+		return urlBuilder.buildThumbnailURLString(nextFreshURL(), 128, false);
+	}
+
+	@Benchmark
+	public String thumbnailConcatenation() throws UnsupportedEncodingException
+	{
+		return serviceURL.toExternalForm() + "/process/generic/thumbnail?item=" + URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8") + "&async=false&size=" + 128;
+	}
+
+	@Benchmark
+	public String imageReusedURL()
+	{
+		return urlBuilder.buildImageURLString(uniqueResourceURL, 640, true, false);
+	}
+
+	@Benchmark
+	public String imageConcatenation() throws UnsupportedEncodingException
+	{
+		return serviceURL.toExternalForm() + "/process/image/resized?item=" + URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8") + "&async=false&resolution=" + (640 + "xY");
+	}
+
+	@Benchmark
+	public String videoSnapshotReusedURL()
+	{
+		return urlBuilder.buildVideoSnapshotURLString(uniqueResourceURL, 640, true, 0.5f, false);
+	}
+
+	@Benchmark
+	public String videoSnapshotConcatenation() throws UnsupportedEncodingException
+	{
+		return serviceURL.toExternalForm() + "/process/video/still?item=" + URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8") + "&async=false&resolution=" + (640 + "xY") + "&timecode=" + 0.5f;
+	}
+
+	@Benchmark
+	public URL immediateThumbnailReusedURL() throws MalformedURLException
+	{
+		return new URL(urlBuilder.buildThumbnailURLString(uniqueResourceURL, 128, false));
+	}
+
+	@Benchmark
+	public URL immediateThumbnailConcatenation() throws MalformedURLException, UnsupportedEncodingException
+	{
+		return new URL(thumbnailConcatenation());
+	}
+
+	/**
+	 * Returns the next of the equal but distinct unique resource {@code URL}
+	 * objects.
+	 * 
+	 * @return The unique resource {@code URL}
+	 */
+	private URL nextFreshURL()
+	{
+		freshURLIndex = (freshURLIndex + 1) & (FRESH_URL_COUNT - 1);
+
+		return freshURLs[freshURLIndex];
+	}
+}
@@ -0,0 +1,342 @@
+package org.diretto.api.client.external.processing;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+
+import org.diretto.api.client.JavaClient;
+import org.diretto.api.client.base.data.MediaMainType;
+import org.diretto.api.client.base.data.MediaType;
+import org.diretto.api.client.base.data.MediaTypeFactory;
+import org.diretto.api.client.base.types.LoadType;
+import org.diretto.api.client.main.core.CoreService;
+import org.diretto.api.client.main.core.entities.Attachment;
+import org.diretto.api.client.main.core.entities.AttachmentID;
+import org.diretto.api.client.main.core.entities.Document;
+import org.diretto.api.client.main.core.entities.DocumentID;
+
+/**
+ * This class provides a stubbed {@link JavaClient} and {@link CoreService} for
+ * the benchmarks, so the {@link ProcessingService} can be used without a
+ * running {@code Core API}. <br/><br/>
+ * 
+ * The stubs are dynamic proxies of the private {@code Stub*} interfaces, which
+ * extend the types of the {@code JavaClient} and redeclare the methods used by
+ * the {@code ProcessingService} with {@code @Override}. So this class only
+ * compiles if the types are interfaces with these methods, and a change of
+ * the {@code JavaClient} API fails the build instead of the benchmark setup.
+ * All other methods return the default value of their return type. <br/><br/>
+ * 
+ * Every {@code Document} and {@code Attachment} exists. Its media main type is
+ * {@code image} if its unique resource {@code URL} contains {@code /image-}
+ * and {@code video} otherwise. A lookup of the {@code CoreService} is delayed
+ * by the given latency to emulate the {@code ValidationMode.REMOTE} and the
+ * misses of the {@code ValidationMode.CACHED}.
+ */
+final class StubCore
+{
+	/**
+	 * The class is not intended to be instantiated.
+	 */
+	private StubCore()
+	{
+	}
+
+	/**
+	 * Returns a stubbed {@link JavaClient}, whose {@link CoreService} answers
+	 * every lookup after the given latency.
+	 * 
+	 * @param lookupLatencyMillis The latency of a lookup in milliseconds
+	 * @return The {@code JavaClient}
+	 */
+	static JavaClient javaClient(final long lookupLatencyMillis)
+	{
+		final CoreService coreService = proxy(StubCoreService.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getDocument"))
+				{
+					if(lookupLatencyMillis > 0)
+					{
+						Thread.sleep(lookupLatencyMillis);
+					}
+
+					return document(((DocumentID) args[0]).getUniqueResourceURL());
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+
+		return proxy(StubJavaClient.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getCoreService"))
+				{
+					return coreService;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Returns a {@link DocumentID} with the given unique resource {@link URL}.
+	 * 
+	 * @param uniqueResourceURL The unique resource {@code URL}
+	 * @return The {@code DocumentID}
+	 */
+	static DocumentID documentID(final URL uniqueResourceURL)
+	{
+		return proxy(StubDocumentID.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getUniqueResourceURL"))
+				{
+					return uniqueResourceURL;
+				}
+				else if(method.getName().equals("getRootID"))
+				{
+					return proxy;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Returns an {@link AttachmentID} with the given unique resource
+	 * {@link URL}, which belongs to the given {@link DocumentID}.
+	 * 
+	 * @param documentID The {@code DocumentID} of the {@code Document}
+	 * @param uniqueResourceURL The unique resource {@code URL}
+	 * @return The {@code AttachmentID}
+	 */
+	static AttachmentID attachmentID(final DocumentID documentID, final URL uniqueResourceURL)
+	{
+		return proxy(StubAttachmentID.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getUniqueResourceURL"))
+				{
+					return uniqueResourceURL;
+				}
+				else if(method.getName().equals("getRootID"))
+				{
+					return documentID;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Returns a stubbed {@link Document} whose attachments all have the
+	 * media main type of the {@code Document}.
+	 * 
+	 * @param uniqueResourceURL The unique resource {@code URL} of the
+	 *        {@code Document}
+	 * @return The {@code Document}
+	 */
+	private static Document document(URL uniqueResourceURL)
+	{
+		final MediaMainType mediaMainType = MediaTypeFactory.getMediaMainType(uniqueResourceURL.toExternalForm().contains("/image-") ? "image" : "video");
+
+		final MediaType mediaType = proxy(StubMediaType.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getMediaMainType"))
+				{
+					return mediaMainType;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+
+		final Attachment attachment = proxy(StubAttachment.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getMediaType"))
+				{
+					return mediaType;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+
+		return proxy(StubDocument.class, new InvocationHandler()
+		{
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
+			{
+				if(method.getName().equals("getMediaMainType"))
+				{
+					return mediaMainType;
+				}
+				else if(method.getName().equals("getAttachment"))
+				{
+					return attachment;
+				}
+
+				return defaultValue(proxy, method, args);
+			}
+		});
+	}
+
+	/**
+	 * Creates a dynamic proxy of the given {@code Stub*} interface.
+	 * 
+	 * @param type The {@code Stub*} interface
+	 * @param handler The {@code InvocationHandler}
+	 * @return The proxy
+	 */
+	private static <T> T proxy(Class<T> type, InvocationHandler handler)
+	{
+		return type.cast(Proxy.newProxyInstance(StubCore.class.getClassLoader(), new Class<?>[] {type}, handler));
+	}
+
+	/**
+	 * Handles the methods of {@link Object} and returns the default value of
+	 * the return type of all other methods.
+	 * 
+	 * @param proxy The proxy
+	 * @param method The invoked method
+	 * @param args The arguments
+	 * @return The result of the invocation
+	 */
+	private static Object defaultValue(Object proxy, Method method, Object[] args)
+	{
+		if(method.getName().equals("equals") && args != null && args.length == 1)
+		{
+			return proxy == args[0];
+		}
+		else if(method.getName().equals("hashCode") && args == null)
+		{
+			return System.identityHashCode(proxy);
+		}
+		else if(method.getName().equals("toString") && args == null)
+		{
+			return proxy.getClass().getInterfaces()[0].getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+		}
+
+		Class<?> returnType = method.getReturnType();
+
+		if(returnType == boolean.class)
+		{
+			return false;
+		}
+		else if(returnType == int.class)
+		{
+			return 0;
+		}
+		else if(returnType == long.class)
+		{
+			return 0L;
+		}
+		else if(returnType == float.class)
+		{
+			return 0.0f;
+		}
+		else if(returnType == double.class)
+		{
+			return 0.0;
+		}
+		else if(returnType.isPrimitive() && returnType != void.class)
+		{
+			throw new UnsupportedOperationException(method.toString());
+		}
+
+		return null;
+	}
+
+	/**
+	 * The stubbed {@link JavaClient}.
+	 */
+	private interface StubJavaClient extends JavaClient
+	{
+		@Override
+		CoreService getCoreService();
+	}
+
+	/**
+	 * The stubbed {@link CoreService}.
+	 */
+	private interface StubCoreService extends CoreService
+	{
+		@Override
+		Document getDocument(DocumentID documentID);
+
+		@Override
+		Document getDocument(DocumentID documentID, LoadType loadType, boolean complete);
+	}
+
+	/**
+	 * The stubbed {@link Document}.
+	 */
+	private interface StubDocument extends Document
+	{
+		@Override
+		MediaMainType getMediaMainType();
+
+		@Override
+		Attachment getAttachment(AttachmentID attachmentID);
+	}
+
+	/**
+	 * The stubbed {@link Attachment}.
+	 */
+	private interface StubAttachment extends Attachment
+	{
+		@Override
+		MediaType getMediaType();
+	}
+
+	/**
+	 * The stubbed {@link MediaType}.
+	 */
+	private interface StubMediaType extends MediaType
+	{
+		@Override
+		MediaMainType getMediaMainType();
+	}
+
+	/**
+	 * The stubbed {@link DocumentID}. {@code getRootID()} is used by the
+	 * {@code ProcessingService} as well, but not redeclared, since its return
+	 * type is not needed here.
+	 */
+	private interface StubDocumentID extends DocumentID
+	{
+		@Override
+		URL getUniqueResourceURL();
+	}
+
+	/**
+	 * The stubbed {@link AttachmentID}. {@code getRootID()} is used by the
+	 * {@code ProcessingService} as well, but not redeclared, since its return
+	 * type is not needed here.
+	 */
+	private interface StubAttachmentID extends AttachmentID
+	{
+		@Override
+		URL getUniqueResourceURL();
+	}
+}
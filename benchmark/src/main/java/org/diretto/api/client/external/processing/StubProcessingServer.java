@@ -0,0 +1,196 @@
+package org.diretto.api.client.external.processing;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * This class is an in-process stub of the {@code Processing API}, which
+ * emulates the endpoints {@code /process/generic/thumbnail},
+ * {@code /process/image/resized} and {@code /process/video/still}. <br/><br/>
+ * 
+ * Every request is answered with the configured status code. A
+ * {@code 303 See Other} response contains a {@code Location} header which
+ * depends on the query of the request. Requests with {@code async=false} are
+ * delayed by the configured render latency. Requests with {@code async=true}
+ * are answered with {@code 202 Accepted} for the configured number of polls
+ * per query before the configured status code is returned.
+ */
+final class StubProcessingServer
+{
+	private final HttpServer server;
+
+	private final ExecutorService executorService;
+
+	private final ConcurrentMap<String, AtomicInteger> pollCounts = new ConcurrentHashMap<String, AtomicInteger>();
+
+	private volatile int statusCode = 303;
+
+	private volatile long renderLatencyMillis = 0;
+
+	private volatile int pendingPolls = 0;
+
+	/**
+	 * Constructs and starts a {@link StubProcessingServer} on a free port of
+	 * the loopback interface.
+	 * 
+	 * @param threads The number of threads which handle the requests
+	 * @throws IOException If the server could not be started
+	 */
+	StubProcessingServer(int threads) throws IOException
+	{
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+		executorService = Executors.newFixedThreadPool(threads);
+
+		HttpHandler handler = new HttpHandler()
+		{
+			@Override
+			public void handle(HttpExchange exchange) throws IOException
+			{
+				try
+				{
+					respond(exchange);
+				}
+				finally
+				{
+					exchange.close();
+				}
+			}
+		};
+
+		server.createContext("/process/generic/thumbnail", handler);
+		server.createContext("/process/image/resized", handler);
+		server.createContext("/process/video/still", handler);
+		server.setExecutor(executorService);
+		server.start();
+	}
+
+	/**
+	 * Configures the responses of the {@link StubProcessingServer}.
+	 * 
+	 * @param statusCode The status code of the final response (e.g.
+	 *        {@code 303}, {@code 400} or {@code 404})
+	 * @param renderLatencyMillis The delay of the requests with
+	 *        {@code async=false} in milliseconds
+	 * @param pendingPolls The number of {@code 202 Accepted} responses per
+	 *        query of the requests with {@code async=true}
+	 */
+	void configure(int statusCode, long renderLatencyMillis, int pendingPolls)
+	{
+		this.statusCode = statusCode;
+		this.renderLatencyMillis = renderLatencyMillis;
+		this.pendingPolls = pendingPolls;
+
+		pollCounts.clear();
+	}
+
+	/**
+	 * Returns the service {@link URL} of the {@link StubProcessingServer}.
+	 * 
+	 * @return The service {@code URL}
+	 */
+	URL getServiceURL()
+	{
+		try
+		{
+			return new URL("http", "127.0.0.1", server.getAddress().getPort(), "/v2");
+		}
+		catch(MalformedURLException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Stops the {@link StubProcessingServer}.
+	 */
+	void stop()
+	{
+		server.stop(0);
+		executorService.shutdownNow();
+	}
+
+	/**
+	 * Sends the configured response to the given request.
+	 * 
+	 * @param exchange The {@code HttpExchange} of the request
+	 * @throws IOException If the response could not be sent
+	 */
+	private void respond(HttpExchange exchange) throws IOException
+	{
+		String query = exchange.getRequestURI().getRawQuery();
+
+		if(query == null)
+		{
+			exchange.sendResponseHeaders(400, -1);
+
+			return;
+		}
+
+		if(query.contains("async=true"))
+		{
+			if(pendingPolls > 0 && getPollCount(query).incrementAndGet() <= pendingPolls)
+			{
+				exchange.sendResponseHeaders(202, -1);
+
+				return;
+			}
+		}
+		else if(renderLatencyMillis > 0)
+		{
+			try
+			{
+				Thread.sleep(renderLatencyMillis);
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		int currentStatusCode = statusCode;
+
+		if(currentStatusCode == 303)
+		{
+			exchange.getResponseHeaders().set("Location", "http://127.0.0.1:" + server.getAddress().getPort() + "/results/" + Integer.toHexString(query.replace("async=true", "async=false").hashCode()) + ".jpg");
+		}
+
+		exchange.sendResponseHeaders(currentStatusCode, -1);
+	}
+
+	/**
+	 * Returns the poll counter of the given query.
+	 * 
+	 * @param query The query of the request
+	 * @return The poll counter
+	 */
+	private AtomicInteger getPollCount(String query)
+	{
+		AtomicInteger pollCount = pollCounts.get(query);
+
+		if(pollCount == null)
+		{
+			AtomicInteger newPollCount = new AtomicInteger();
+
+			pollCount = pollCounts.putIfAbsent(query, newPollCount);
+
+			if(pollCount == null)
+			{
+				pollCount = newPollCount;
+			}
+		}
+
+		return pollCount;
+	}
+}
@@ -0,0 +1,189 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class resolves a batch of {@link ProcessingRequest}s concurrently.
+ * <br/><br/>
+ * 
+ * The requests are processed by a bounded number of workers, which take the
+ * next unprocessed request one after another. So the number of concurrent HTTP
+ * requests of a batch never exceeds the given parallelism. Since every HTTP
+ * request additionally acquires a request permit of the
+ * {@link SharedRestletClient}, concurrent batches do not exceed the connection
+ * pool together, but their workers wait for a free permit.
+ */
+final class BatchResolution implements Future<List<ProcessingResult>>
+{
+	private static final int RUNNING = 0;
+
+	private static final int COMPLETED = 1;
+
+	private static final int CANCELLED = 2;
+
+	private final ProcessingServiceImpl processingService;
+
+	private final List<ProcessingRequest> requests;
+
+	private final ProcessingResultListener listener;
+
+	private final ProcessingResult[] results;
+
+	private final AtomicInteger nextIndex = new AtomicInteger();
+
+	private final AtomicInteger remainingCount;
+
+	private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+	private final CountDownLatch completionLatch = new CountDownLatch(1);
+
+	/**
+	 * Constructs a {@link BatchResolution}.
+	 * 
+	 * @param processingService The {@code ProcessingServiceImpl} which resolves
+	 *        the single requests
+	 * @param requests The {@code ProcessingRequest}s
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 */
+	BatchResolution(ProcessingServiceImpl processingService, List<ProcessingRequest> requests, ProcessingResultListener listener)
+	{
+		this.processingService = processingService;
+		this.requests = requests;
+		this.listener = listener;
+
+		results = new ProcessingResult[requests.size()];
+		remainingCount = new AtomicInteger(requests.size());
+
+		if(requests.isEmpty())
+		{
+			state.set(COMPLETED);
+			completionLatch.countDown();
+		}
+	}
+
+	/**
+	 * Starts the workers of this {@link BatchResolution}.
+	 * 
+	 * @param executor The {@code Executor} which executes the workers
+	 * @param parallelism The maximum number of concurrent requests
+	 */
+	void start(Executor executor, int parallelism)
+	{
+		int workerCount = Math.min(Math.max(parallelism, 1), requests.size());
+
+		for(int i = 0; i < workerCount; i++)
+		{
+			executor.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					processRequests();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Processes the remaining requests until all requests have been taken or
+	 * the {@link BatchResolution} has been cancelled.
+	 */
+	private void processRequests()
+	{
+		int index;
+
+		while(state.get() == RUNNING && (index = nextIndex.getAndIncrement()) < results.length)
+		{
+			ProcessingResult result = processingService.resolve(requests.get(index));
+
+			results[index] = result;
+
+			if(listener != null)
+			{
+				try
+				{
+					listener.resultAvailable(index, result);
+				}
+				catch(RuntimeException e)
+				{
+					e.printStackTrace();
+				}
+			}
+
+			if(remainingCount.decrementAndGet() == 0 && state.compareAndSet(RUNNING, COMPLETED))
+			{
+				completionLatch.countDown();
+			}
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning)
+	{
+		if(state.compareAndSet(RUNNING, CANCELLED))
+		{
+			completionLatch.countDown();
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean isCancelled()
+	{
+		return state.get() == CANCELLED;
+	}
+
+	@Override
+	public boolean isDone()
+	{
+		return state.get() != RUNNING;
+	}
+
+	@Override
+	public List<ProcessingResult> get() throws InterruptedException, ExecutionException
+	{
+		completionLatch.await();
+
+		return getResults();
+	}
+
+	@Override
+	public List<ProcessingResult> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		if(!completionLatch.await(timeout, unit))
+		{
+			throw new TimeoutException();
+		}
+
+		return getResults();
+	}
+
+	/**
+	 * Returns the ordered {@link ProcessingResult}s after the completion.
+	 * 
+	 * @return The {@code ProcessingResult}s
+	 */
+	private List<ProcessingResult> getResults()
+	{
+		if(state.get() == CANCELLED)
+		{
+			throw new CancellationException();
+		}
+
+		return Collections.unmodifiableList(new ArrayList<ProcessingResult>(Arrays.asList(results)));
+	}
+}
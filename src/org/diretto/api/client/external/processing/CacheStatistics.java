@@ -0,0 +1,106 @@
+package org.diretto.api.client.external.processing;
+
+/**
+ * This class represents an immutable snapshot of the statistics of a cache of
+ * the {@link ProcessingService}.
+ */
+public final class CacheStatistics
+{
+	private final long hitCount;
+
+	private final long missCount;
+
+	private final long evictionCount;
+
+	private final int size;
+
+	private final int maxSize;
+
+	/**
+	 * Constructs a {@link CacheStatistics} object.
+	 * 
+	 * @param hitCount The number of cache hits
+	 * @param missCount The number of cache misses
+	 * @param evictionCount The number of evicted entries
+	 * @param size The current number of entries
+	 * @param maxSize The maximum number of entries
+	 */
+	CacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maxSize)
+	{
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the number of cache hits.
+	 * 
+	 * @return The number of cache hits
+	 */
+	public long getHitCount()
+	{
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of cache misses.
+	 * 
+	 * @return The number of cache misses
+	 */
+	public long getMissCount()
+	{
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of entries which have been evicted because of the
+	 * size limit or the expiration of their time to live.
+	 * 
+	 * @return The number of evicted entries
+	 */
+	public long getEvictionCount()
+	{
+		return evictionCount;
+	}
+
+	/**
+	 * Returns the number of entries at the time of the snapshot.
+	 * 
+	 * @return The number of entries
+	 */
+	public int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the maximum number of entries ({@code 0} if the cache is
+	 * disabled).
+	 * 
+	 * @return The maximum number of entries
+	 */
+	public int getMaxSize()
+	{
+		return maxSize;
+	}
+
+	/**
+	 * Returns the ratio of cache hits to all cache requests.
+	 * 
+	 * @return The hit rate ({@code 0 <= hitRate <= 1})
+	 */
+	public double getHitRate()
+	{
+		long requestCount = hitCount + missCount;
+
+		return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "CacheStatistics [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + ", size=" + size + ", maxSize=" + maxSize + "]";
+	}
+}
@@ -0,0 +1,515 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class is a size- and time-bounded concurrent cache which is used by the
+ * {@link ProcessingServiceImpl}. <br/><br/>
+ * 
+ * The entries are held by a {@link ConcurrentHashMap}, so a cache hit neither
+ * acquires a lock nor modifies the cache, and the hits are counted per
+ * thread. Entries which are older than the time to live will be evicted on
+ * access. If the maximum size is exceeded, the expired entries and then
+ * arbitrary entries will be evicted until a quarter of the maximum size is
+ * free again. Therefore the eviction only approximates a least recently used
+ * policy, but its costs are distributed over many insertions. Concurrent
+ * loads of the same key share one single invocation of the loader.
+ * <br/><br/>
+ * 
+ * <i>Annotation:</i> A {@code null} value represents a negative result (e.g.
+ * a nonexistent resource). Negative results have their own time to live, so
+ * they can expire earlier than the other values or not be stored at all.
+ * 
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+final class ExpiringCache<K, V>
+{
+	private final int maxSize;
+
+	private final long timeToLiveNanos;
+
+	private final long negativeTimeToLiveNanos;
+
+	private final ConcurrentMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<K, CacheEntry<V>>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+
+	private final ConcurrentMap<K, Load> pendingLoads = new ConcurrentHashMap<K, Load>();
+
+	private final StripedCounter hitCount = new StripedCounter();
+
+	private final AtomicLong missCount = new AtomicLong();
+
+	private final AtomicLong evictionCount = new AtomicLong();
+
+	/**
+	 * Constructs an {@link ExpiringCache} which does not store negative
+	 * ({@code null}) results. If the {@code maxSize} or the {@code timeToLive}
+	 * value is not greater than {@code 0}, no values will be stored, but
+	 * concurrent loads of the same key will still be shared.
+	 * 
+	 * @param maxSize The maximum number of entries
+	 * @param timeToLive The time to live of an entry in milliseconds
+	 */
+	ExpiringCache(int maxSize, long timeToLive)
+	{
+		this(maxSize, timeToLive, 0);
+	}
+
+	/**
+	 * Constructs an {@link ExpiringCache}. If the {@code maxSize} value is not
+	 * greater than {@code 0}, no values will be stored, but concurrent loads
+	 * of the same key will still be shared. If the {@code timeToLive} or the
+	 * {@code negativeTimeToLive} value is not greater than {@code 0}, the
+	 * corresponding values will not be stored.
+	 * 
+	 * @param maxSize The maximum number of entries
+	 * @param timeToLive The time to live of an entry in milliseconds
+	 * @param negativeTimeToLive The time to live of an entry with a negative
+	 *        ({@code null}) result in milliseconds
+	 */
+	ExpiringCache(int maxSize, long timeToLive, long negativeTimeToLive)
+	{
+		this.maxSize = maxSize;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+		this.negativeTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(negativeTimeToLive);
+	}
+
+	/**
+	 * Returns the cached value of the specified key or {@code null} if there
+	 * is no valid entry for the key or the entry has a negative result.
+	 * 
+	 * @param key The key
+	 * @return The cached value or {@code null}
+	 */
+	V getIfPresent(K key)
+	{
+		CacheEntry<V> entry = getValidEntry(key);
+
+		if(entry == null || entry.value == null)
+		{
+			return null;
+		}
+
+		hitCount.increment();
+
+		return entry.value;
+	}
+
+	/**
+	 * Returns the value of the specified key. If there is no valid entry for
+	 * the key, the value will be loaded with the given loader and stored in
+	 * the cache. If the value of the key is already being loaded by another
+	 * thread, the result of this load will be returned. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> If the load of another thread fails while that thread
+	 * is interrupted (e.g. because its {@code Future} has been cancelled), the
+	 * failure is not shared. Instead the load is repeated by one of the waiting
+	 * threads.
+	 * 
+	 * @param key The key
+	 * @param loader The loader of the value
+	 * @return The value or {@code null} if the loader returned {@code null} (or
+	 *         a negative result is cached) or the current thread has been
+	 *         interrupted
+	 */
+	V get(K key, Callable<V> loader)
+	{
+		CacheEntry<V> entry = getValidEntry(key);
+
+		if(entry != null)
+		{
+			hitCount.increment();
+
+			return entry.value;
+		}
+
+		missCount.incrementAndGet();
+
+		while(true)
+		{
+			Load load = new Load(key, loader);
+			Load pendingLoad = pendingLoads.putIfAbsent(key, load);
+
+			if(pendingLoad == null)
+			{
+				try
+				{
+					load.task.run();
+				}
+				finally
+				{
+					pendingLoads.remove(key, load);
+				}
+
+				return getResult(load.task);
+			}
+
+			if(!awaitLoad(pendingLoad))
+			{
+				return null;
+			}
+
+			if(!pendingLoad.isInterrupted())
+			{
+				return getResult(pendingLoad.task);
+			}
+
+			entry = getValidEntry(key);
+
+			if(entry != null)
+			{
+				return entry.value;
+			}
+		}
+	}
+
+	/**
+	 * Stores the given value for the specified key. A {@code null} value is
+	 * stored as a negative result with its own time to live.
+	 * 
+	 * @param key The key
+	 * @param value The value or {@code null}
+	 */
+	void put(K key, V value)
+	{
+		long entryTimeToLiveNanos = value != null ? timeToLiveNanos : negativeTimeToLiveNanos;
+
+		if(maxSize <= 0 || entryTimeToLiveNanos <= 0)
+		{
+			return;
+		}
+
+		CacheEntry<V> previousEntry = entries.put(key, new CacheEntry<V>(value, System.nanoTime() + entryTimeToLiveNanos));
+
+		if(previousEntry == null && size.incrementAndGet() > maxSize)
+		{
+			evictEntries();
+		}
+	}
+
+	/**
+	 * Removes all entries of the cache.
+	 */
+	void clear()
+	{
+		for(Map.Entry<K, CacheEntry<V>> entry : entries.entrySet())
+		{
+			if(entries.remove(entry.getKey(), entry.getValue()))
+			{
+				size.decrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the cache.
+	 * 
+	 * @return The {@code CacheStatistics}
+	 */
+	CacheStatistics getStatistics()
+	{
+		return new CacheStatistics(hitCount.sum(), missCount.get(), evictionCount.get(), Math.max(size.get(), 0), Math.max(maxSize, 0));
+	}
+
+	/**
+	 * Returns the entry of the specified key if it has not expired yet. An
+	 * expired entry will be evicted.
+	 * 
+	 * @param key The key
+	 * @return The valid {@code CacheEntry} or {@code null}
+	 */
+	private CacheEntry<V> getValidEntry(K key)
+	{
+		CacheEntry<V> entry = entries.get(key);
+
+		if(entry == null)
+		{
+			return null;
+		}
+
+		if(entry.isExpired(System.nanoTime()))
+		{
+			evictEntry(key, entry);
+
+			return null;
+		}
+
+		return entry;
+	}
+
+	/**
+	 * Evicts the expired entries and, if this is not sufficient, arbitrary
+	 * entries until a quarter of the maximum size is free again. If another
+	 * thread is already evicting entries, this method returns immediately.
+	 */
+	private void evictEntries()
+	{
+		if(!evicting.compareAndSet(false, true))
+		{
+			return;
+		}
+
+		try
+		{
+			int targetSize = maxSize - maxSize / 4;
+			long now = System.nanoTime();
+
+			for(Map.Entry<K, CacheEntry<V>> entry : entries.entrySet())
+			{
+				if(entry.getValue().isExpired(now))
+				{
+					evictEntry(entry.getKey(), entry.getValue());
+				}
+			}
+
+			for(Map.Entry<K, CacheEntry<V>> entry : entries.entrySet())
+			{
+				if(size.get() <= targetSize)
+				{
+					break;
+				}
+
+				evictEntry(entry.getKey(), entry.getValue());
+			}
+		}
+		finally
+		{
+			evicting.set(false);
+		}
+	}
+
+	/**
+	 * Evicts the given entry of the specified key, unless it has already been
+	 * replaced or removed.
+	 * 
+	 * @param key The key
+	 * @param entry The {@code CacheEntry}
+	 */
+	private void evictEntry(K key, CacheEntry<V> entry)
+	{
+		if(entries.remove(key, entry))
+		{
+			size.decrementAndGet();
+			evictionCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Waits until the given load has been completed.
+	 * 
+	 * @param load The load
+	 * @return {@code true} if the load has been completed; {@code false} if the
+	 *         current thread has been interrupted
+	 */
+	private boolean awaitLoad(Load load)
+	{
+		try
+		{
+			load.task.get();
+
+			return true;
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+
+			return false;
+		}
+		catch(ExecutionException e)
+		{
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the result of the given load.
+	 * 
+	 * @param load The load
+	 * @return The result or {@code null} if the current thread has been
+	 *         interrupted
+	 */
+	private V getResult(FutureTask<V> load)
+	{
+		try
+		{
+			return load.get();
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+
+			return null;
+		}
+		catch(ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+
+			if(cause instanceof RuntimeException)
+			{
+				throw (RuntimeException) cause;
+			}
+			else if(cause instanceof Error)
+			{
+				throw (Error) cause;
+			}
+			else
+			{
+				throw new IllegalStateException(cause);
+			}
+		}
+	}
+
+	/**
+	 * This class represents a load of a value, which can be shared by
+	 * concurrent invocations of {@link ExpiringCache#get(Object, Callable)}.
+	 * The loaded value is stored in the cache before the load is completed. If
+	 * the loader fails, the load records whether the loading thread has been
+	 * interrupted, since such a failure is not caused by the key.
+	 */
+	private final class Load implements Callable<V>
+	{
+		private final K key;
+
+		private final Callable<V> loader;
+
+		private final FutureTask<V> task;
+
+		private volatile boolean interrupted = false;
+
+		/**
+		 * Constructs a {@link Load}.
+		 * 
+		 * @param key The key
+		 * @param loader The loader of the value
+		 */
+		Load(K key, Callable<V> loader)
+		{
+			this.key = key;
+			this.loader = loader;
+
+			task = new FutureTask<V>(this);
+		}
+
+		@Override
+		public V call() throws Exception
+		{
+			V value;
+
+			try
+			{
+				value = loader.call();
+			}
+			catch(Exception e)
+			{
+				interrupted = e instanceof InterruptedException || Thread.currentThread().isInterrupted();
+
+				throw e;
+			}
+
+			put(key, value);
+
+			return value;
+		}
+
+		/**
+		 * Checks whether the loader failed while the loading thread was
+		 * interrupted.
+		 * 
+		 * @return {@code true} if the loader failed because of an interruption;
+		 *         otherwise {@code false}
+		 */
+		boolean isInterrupted()
+		{
+			return interrupted;
+		}
+	}
+
+	/**
+	 * This class is a counter which distributes its increments over several
+	 * padded cells, so that concurrent cache hits of different threads do not
+	 * contend for the same memory location.
+	 */
+	private static final class StripedCounter
+	{
+		private static final int CELL_COUNT = 16;
+
+		private static final int CELL_PADDING = 8;
+
+		private final AtomicLongArray cells = new AtomicLongArray(CELL_COUNT * CELL_PADDING);
+
+		/**
+		 * Increments the cell of the current thread.
+		 */
+		void increment()
+		{
+			cells.incrementAndGet(((int) Thread.currentThread().getId() & (CELL_COUNT - 1)) * CELL_PADDING);
+		}
+
+		/**
+		 * Returns the sum of all cells.
+		 * 
+		 * @return The sum
+		 */
+		long sum()
+		{
+			long sum = 0;
+
+			for(int i = 0; i < CELL_COUNT; i++)
+			{
+				sum += cells.get(i * CELL_PADDING);
+			}
+
+			return sum;
+		}
+	}
+
+	/**
+	 * This class represents a cache entry.
+	 * 
+	 * @param <V> The type of the value
+	 */
+	private static final class CacheEntry<V>
+	{
+		private final V value;
+
+		private final long expirationTime;
+
+		/**
+		 * Constructs a {@link CacheEntry}.
+		 * 
+		 * @param value The value or {@code null} for a negative result
+		 * @param expirationTime The expiration time in nanoseconds
+		 */
+		CacheEntry(V value, long expirationTime)
+		{
+			this.value = value;
+			this.expirationTime = expirationTime;
+		}
+
+		/**
+		 * Checks whether the entry has expired.
+		 * 
+		 * @param now The current time in nanoseconds
+		 * @return {@code true} if the entry has expired; otherwise
+		 *         {@code false}
+		 */
+		boolean isExpired(long now)
+		{
+			return now - expirationTime > 0;
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * This class resolves the video snapshots of a filmstrip as asynchronous
+ * {@link ProcessingJob}s. <br/><br/>
+ * 
+ * Only a bounded number of jobs is pending at the same time. As soon as a job
+ * has been completed, the job of the next snapshot is submitted. Since the
+ * jobs are polled with {@code async=true}, a snapshot occupies a connection
+ * only for the short time of a single poll and not for the whole processing
+ * of the video.
+ */
+final class FilmstripResolution implements Future<List<ProcessingResult>>
+{
+	private static final int RUNNING = 0;
+
+	private static final int COMPLETED = 1;
+
+	private static final int CANCELLED = 2;
+
+	private final ProcessingServiceImpl processingService;
+
+	private final List<ProcessingRequest> requests;
+
+	private final ProcessingResultListener listener;
+
+	private final ProcessingResult[] results;
+
+	private final AtomicReferenceArray<ProcessingJob> jobs;
+
+	private final AtomicInteger nextIndex = new AtomicInteger();
+
+	private final AtomicInteger remainingCount;
+
+	private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+	private final CountDownLatch completionLatch = new CountDownLatch(1);
+
+	/**
+	 * Constructs a {@link FilmstripResolution}.
+	 * 
+	 * @param processingService The {@code ProcessingServiceImpl} which submits
+	 *        the jobs
+	 * @param requests The validated {@code ProcessingRequest}s of the
+	 *        snapshots
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 */
+	FilmstripResolution(ProcessingServiceImpl processingService, List<ProcessingRequest> requests, ProcessingResultListener listener)
+	{
+		this.processingService = processingService;
+		this.requests = requests;
+		this.listener = listener;
+
+		results = new ProcessingResult[requests.size()];
+		jobs = new AtomicReferenceArray<ProcessingJob>(requests.size());
+		remainingCount = new AtomicInteger(requests.size());
+
+		if(requests.isEmpty())
+		{
+			state.set(COMPLETED);
+			completionLatch.countDown();
+		}
+	}
+
+	/**
+	 * Submits the first jobs of this {@link FilmstripResolution}.
+	 * 
+	 * @param maxPendingJobs The maximum number of pending jobs
+	 */
+	void start(int maxPendingJobs)
+	{
+		int jobCount = Math.min(Math.max(maxPendingJobs, 1), requests.size());
+
+		for(int i = 0; i < jobCount; i++)
+		{
+			submitNextJob();
+		}
+	}
+
+	/**
+	 * Submits the job of the next snapshot, if there is one and the
+	 * {@link FilmstripResolution} has not been cancelled.
+	 */
+	private void submitNextJob()
+	{
+		if(state.get() != RUNNING)
+		{
+			return;
+		}
+
+		final int index = nextIndex.getAndIncrement();
+
+		if(index >= results.length)
+		{
+			return;
+		}
+
+		ProcessingJob job = processingService.submitJob(requests.get(index), false, new ProcessingResultListener()
+		{
+			@Override
+			public void resultAvailable(int jobIndex, ProcessingResult result)
+			{
+				jobCompleted(index, result);
+			}
+		});
+
+		jobs.set(index, job);
+
+		if(state.get() == CANCELLED)
+		{
+			job.cancel(false);
+		}
+	}
+
+	/**
+	 * Stores the {@link ProcessingResult} of a completed job, notifies the
+	 * listener and submits the next job.
+	 * 
+	 * @param index The index of the snapshot
+	 * @param result The {@code ProcessingResult}
+	 */
+	private void jobCompleted(int index, ProcessingResult result)
+	{
+		if(state.get() != RUNNING)
+		{
+			return;
+		}
+
+		results[index] = result;
+
+		if(listener != null)
+		{
+			try
+			{
+				listener.resultAvailable(index, result);
+			}
+			catch(RuntimeException e)
+			{
+				e.printStackTrace();
+			}
+		}
+
+		if(remainingCount.decrementAndGet() == 0)
+		{
+			if(state.compareAndSet(RUNNING, COMPLETED))
+			{
+				completionLatch.countDown();
+			}
+		}
+		else
+		{
+			submitNextJob();
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning)
+	{
+		if(!state.compareAndSet(RUNNING, CANCELLED))
+		{
+			return false;
+		}
+
+		completionLatch.countDown();
+
+		for(int i = 0; i < jobs.length(); i++)
+		{
+			ProcessingJob job = jobs.get(i);
+
+			if(job != null)
+			{
+				job.cancel(mayInterruptIfRunning);
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean isCancelled()
+	{
+		return state.get() == CANCELLED;
+	}
+
+	@Override
+	public boolean isDone()
+	{
+		return state.get() != RUNNING;
+	}
+
+	@Override
+	public List<ProcessingResult> get() throws InterruptedException, ExecutionException
+	{
+		completionLatch.await();
+
+		return getResults();
+	}
+
+	@Override
+	public List<ProcessingResult> get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		if(!completionLatch.await(timeout, unit))
+		{
+			throw new TimeoutException();
+		}
+
+		return getResults();
+	}
+
+	/**
+	 * Returns the ordered {@link ProcessingResult}s after the completion.
+	 * 
+	 * @return The {@code ProcessingResult}s
+	 */
+	private List<ProcessingResult> getResults()
+	{
+		if(state.get() == CANCELLED)
+		{
+			throw new CancellationException();
+		}
+
+		return Collections.unmodifiableList(new ArrayList<ProcessingResult>(Arrays.asList(results)));
+	}
+}
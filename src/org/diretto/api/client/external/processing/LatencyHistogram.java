@@ -0,0 +1,184 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class is a lock-free histogram of latencies with logarithmic buckets.
+ * <br/><br/>
+ * 
+ * Every power of two is divided into 16 linear sub-buckets, so the relative
+ * error of a recorded value is at most about 6 percent, while the whole range
+ * of {@code long} values is covered by a fixed number of counters.
+ */
+public final class LatencyHistogram
+{
+	private static final int SUB_BUCKET_BITS = 4;
+
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+	private final AtomicLong totalCount = new AtomicLong();
+
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * Constructs an empty {@link LatencyHistogram}.
+	 */
+	LatencyHistogram()
+	{
+	}
+
+	/**
+	 * Records the given latency.
+	 * 
+	 * @param nanos The latency in nanoseconds
+	 */
+	void record(long nanos)
+	{
+		if(nanos < 0)
+		{
+			nanos = 0;
+		}
+
+		counts.incrementAndGet(getBucketIndex(nanos));
+		totalCount.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+
+		long currentMax;
+
+		while(nanos > (currentMax = maxNanos.get()))
+		{
+			if(maxNanos.compareAndSet(currentMax, nanos))
+			{
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 * 
+	 * @return The number of recorded latencies
+	 */
+	public long getCount()
+	{
+		return totalCount.get();
+	}
+
+	/**
+	 * Returns the mean of the recorded latencies.
+	 * 
+	 * @param unit The {@code TimeUnit} of the result
+	 * @return The mean latency or {@code 0} if no latency has been recorded
+	 */
+	public double getMean(TimeUnit unit)
+	{
+		long count = totalCount.get();
+
+		if(count == 0)
+		{
+			return 0.0;
+		}
+
+		return (double) totalNanos.get() / count / unit.toNanos(1);
+	}
+
+	/**
+	 * Returns the maximum of the recorded latencies.
+	 * 
+	 * @param unit The {@code TimeUnit} of the result
+	 * @return The maximum latency
+	 */
+	public long getMax(TimeUnit unit)
+	{
+		return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the latency below which the given percentage of the recorded
+	 * latencies lies (e.g. {@code 99.0} for the 99th percentile).
+	 * <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The result is the upper bound of the corresponding
+	 * bucket, but never greater than the maximum latency.
+	 * 
+	 * @param percentile The percentile ({@code 0 <= percentile <= 100})
+	 * @param unit The {@code TimeUnit} of the result
+	 * @return The latency at the given percentile or {@code 0} if no latency
+	 *         has been recorded
+	 */
+	public long getPercentile(double percentile, TimeUnit unit)
+	{
+		if(percentile < 0.0 || percentile > 100.0)
+		{
+			throw new IllegalArgumentException();
+		}
+
+		long count = totalCount.get();
+
+		if(count == 0)
+		{
+			return 0;
+		}
+
+		long threshold = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+		long cumulativeCount = 0;
+
+		for(int i = 0; i < BUCKET_COUNT; i++)
+		{
+			cumulativeCount += counts.get(i);
+
+			if(cumulativeCount >= threshold)
+			{
+				return unit.convert(Math.min(getBucketUpperBound(i), maxNanos.get()), TimeUnit.NANOSECONDS);
+			}
+		}
+
+		return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the index of the bucket of the given value.
+	 * 
+	 * @param value The value ({@code value >= 0})
+	 * @return The bucket index
+	 */
+	private static int getBucketIndex(long value)
+	{
+		if(value < SUB_BUCKET_COUNT)
+		{
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS));
+
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + (mantissa - SUB_BUCKET_COUNT);
+	}
+
+	/**
+	 * Returns the greatest value of the bucket with the given index.
+	 * 
+	 * @param index The bucket index
+	 * @return The upper bound of the bucket
+	 */
+	private static long getBucketUpperBound(int index)
+	{
+		if(index < SUB_BUCKET_COUNT)
+		{
+			return index;
+		}
+
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long mantissa = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+
+		return ((mantissa + 1) << shift) - 1;
+	}
+}
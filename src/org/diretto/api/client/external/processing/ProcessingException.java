@@ -0,0 +1,53 @@
+package org.diretto.api.client.external.processing;
+
+/**
+ * This class represents an exception which is thrown if a request to the
+ * {@code Processing API} did not result in a {@code 303 See Other} response or
+ * has been interrupted before the response arrived.
+ */
+public final class ProcessingException extends RuntimeException
+{
+	private static final long serialVersionUID = -3218530718295366174L;
+
+	private final int statusCode;
+
+	/**
+	 * Constructs a {@link ProcessingException}.
+	 * 
+	 * @param statusCode The status code of the response
+	 * @param urlString The {@code URL} ({@code String} representation) of the
+	 *        request
+	 */
+	ProcessingException(int statusCode, String urlString)
+	{
+		super("The request \"" + urlString + "\" failed with the status code " + statusCode + ".");
+
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * Constructs a {@link ProcessingException} for a request which has been
+	 * interrupted before the response arrived.
+	 * 
+	 * @param urlString The {@code URL} ({@code String} representation) of the
+	 *        request
+	 */
+	ProcessingException(String urlString)
+	{
+		super("The request \"" + urlString + "\" has been interrupted.");
+
+		this.statusCode = ProcessingResult.NO_STATUS_CODE;
+	}
+
+	/**
+	 * Returns the status code of the response (e.g. {@code 400} or
+	 * {@code 404}) or {@link ProcessingResult#NO_STATUS_CODE} if the request
+	 * has been interrupted.
+	 * 
+	 * @return The status code
+	 */
+	public int getStatusCode()
+	{
+		return statusCode;
+	}
+}
@@ -0,0 +1,232 @@
+package org.diretto.api.client.external.processing;
+
+import java.net.URL;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class represents an asynchronous job of the {@code Processing API}
+ * which is completed by the {@link ProcessingJobScheduler}. <br/><br/>
+ * 
+ * The job is not executed as a task, but its result is set as soon as the
+ * last poll has been answered. The first completion wins, all further
+ * completions are ignored.
+ */
+final class ProcessingJob implements Future<URL>
+{
+	private static final int PENDING = 0;
+
+	private static final int COMPLETED = 1;
+
+	private static final int FAILED = 2;
+
+	private static final int CANCELLED = 3;
+
+	private final ProcessingRequest request;
+
+	private final ProcessingJobScheduler jobScheduler;
+
+	private final ProcessingResultListener listener;
+
+	private final long creationTime = System.nanoTime();
+
+	private final AtomicInteger state = new AtomicInteger(PENDING);
+
+	private final CountDownLatch completionLatch = new CountDownLatch(1);
+
+	private URL url = null;
+
+	private Throwable cause = null;
+
+	/**
+	 * Constructs a {@link ProcessingJob}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param jobScheduler The {@code ProcessingJobScheduler} which tracks the
+	 *        job until its completion
+	 * @param listener A {@code ProcessingResultListener} which is notified
+	 *        with the index {@code 0} as soon as the job has been completed or
+	 *        {@code null}
+	 */
+	ProcessingJob(ProcessingRequest request, ProcessingJobScheduler jobScheduler, ProcessingResultListener listener)
+	{
+		this.request = request;
+		this.jobScheduler = jobScheduler;
+		this.listener = listener;
+	}
+
+	/**
+	 * Completes the job with the given real resource {@link URL}.
+	 * 
+	 * @param url The real resource {@code URL}
+	 */
+	void complete(URL url)
+	{
+		if(state.compareAndSet(PENDING, COMPLETED))
+		{
+			this.url = url;
+
+			finish();
+		}
+	}
+
+	/**
+	 * Completes the job with the given cause of the failure.
+	 * 
+	 * @param cause The cause of the failure
+	 */
+	void fail(Throwable cause)
+	{
+		if(state.compareAndSet(PENDING, FAILED))
+		{
+			this.cause = cause;
+
+			finish();
+		}
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning)
+	{
+		if(state.compareAndSet(PENDING, CANCELLED))
+		{
+			finish();
+
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean isCancelled()
+	{
+		return state.get() == CANCELLED;
+	}
+
+	@Override
+	public boolean isDone()
+	{
+		return state.get() != PENDING;
+	}
+
+	@Override
+	public URL get() throws InterruptedException, ExecutionException
+	{
+		completionLatch.await();
+
+		return getResult();
+	}
+
+	@Override
+	public URL get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException
+	{
+		if(!completionLatch.await(timeout, unit))
+		{
+			throw new TimeoutException();
+		}
+
+		return getResult();
+	}
+
+	/**
+	 * Returns the {@link ProcessingRequest} of the job.
+	 * 
+	 * @return The {@code ProcessingRequest}
+	 */
+	ProcessingRequest getRequest()
+	{
+		return request;
+	}
+
+	/**
+	 * Returns the creation time of the job.
+	 * 
+	 * @return The creation time in nanoseconds
+	 */
+	long getCreationTime()
+	{
+		return creationTime;
+	}
+
+	/**
+	 * Returns the {@link ProcessingResult} of the completed job. A failure
+	 * which is not a {@link RuntimeException} (e.g. the
+	 * {@link TimeoutException} of the {@link ProcessingJobScheduler}) is
+	 * wrapped in an {@link IllegalStateException}.
+	 * 
+	 * @return The {@code ProcessingResult}
+	 */
+	ProcessingResult toResult()
+	{
+		switch(state.get())
+		{
+			case COMPLETED:
+				return new ProcessingResult(request, url, 303, null);
+			case FAILED:
+				if(cause instanceof ProcessingException)
+				{
+					return new ProcessingResult(request, null, ((ProcessingException) cause).getStatusCode(), (ProcessingException) cause);
+				}
+				else if(cause instanceof RuntimeException)
+				{
+					return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, (RuntimeException) cause);
+				}
+				else
+				{
+					return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, new IllegalStateException(cause.getMessage(), cause));
+				}
+			case CANCELLED:
+				return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, new CancellationException());
+			default:
+				throw new IllegalStateException();
+		}
+	}
+
+	/**
+	 * Releases the waiting threads, unregisters the job from its
+	 * {@link ProcessingJobScheduler} and notifies the listener.
+	 */
+	private void finish()
+	{
+		completionLatch.countDown();
+
+		jobScheduler.jobFinished(this);
+
+		if(listener != null)
+		{
+			try
+			{
+				listener.resultAvailable(0, toResult());
+			}
+			catch(RuntimeException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Returns the result of the completed job.
+	 * 
+	 * @return The real resource {@code URL}
+	 * @throws ExecutionException If the job failed
+	 */
+	private URL getResult() throws ExecutionException
+	{
+		switch(state.get())
+		{
+			case COMPLETED:
+				return url;
+			case FAILED:
+				throw new ExecutionException(cause);
+			default:
+				throw new CancellationException();
+		}
+	}
+}
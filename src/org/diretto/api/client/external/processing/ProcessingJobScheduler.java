@@ -0,0 +1,204 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class polls the pending {@link ProcessingJob}s of a
+ * {@link ProcessingServiceImpl}. <br/><br/>
+ * 
+ * A job is polled with the {@code async=true} request {@code URL} as long as
+ * the {@code Processing API} answers with {@code 202 Accepted}. The delay
+ * between two polls starts with the initial delay and is doubled after every
+ * poll up to the maximum delay. All instances share a few polling threads
+ * (see the XML configuration file), which only trigger the polls. The HTTP
+ * requests themselves are executed by the {@code ExecutorService} of the
+ * {@code ProcessingServiceImpl}. The pending jobs are tracked, so they can be
+ * cancelled when the {@code ProcessingServiceImpl} is shut down.
+ */
+final class ProcessingJobScheduler
+{
+	private static final ScheduledExecutorService pollingScheduler = Executors.newScheduledThreadPool(ProcessingServiceID.INSTANCE.getXMLConfiguration().getInt("async-jobs/threads", 2), new ProcessingServiceImpl.DaemonThreadFactory("ProcessingService-Polling"));
+
+	private final ProcessingServiceImpl processingService;
+
+	private final long initialDelay;
+
+	private final long maxDelay;
+
+	private final long timeoutNanos;
+
+	private final Set<ProcessingJob> pendingJobs = Collections.newSetFromMap(new ConcurrentHashMap<ProcessingJob, Boolean>());
+
+	private volatile boolean shutDown = false;
+
+	/**
+	 * Constructs a {@link ProcessingJobScheduler}.
+	 * 
+	 * @param processingService The {@code ProcessingServiceImpl} which
+	 *        executes the polls
+	 * @param initialDelay The delay after the first poll in milliseconds
+	 * @param maxDelay The maximum delay between two polls in milliseconds
+	 * @param timeout The maximum duration of a job in milliseconds ({@code 0}
+	 *        for no limit)
+	 */
+	ProcessingJobScheduler(ProcessingServiceImpl processingService, long initialDelay, long maxDelay, long timeout)
+	{
+		this.processingService = processingService;
+		this.initialDelay = Math.max(initialDelay, 1);
+		this.maxDelay = Math.max(maxDelay, this.initialDelay);
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+	}
+
+	/**
+	 * Creates a new {@link ProcessingJob}, which is tracked by this
+	 * {@link ProcessingJobScheduler} until its completion. If the scheduler
+	 * has already been shut down, the job will be cancelled immediately.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param listener A {@code ProcessingResultListener} which is notified as
+	 *        soon as the job has been completed or {@code null}
+	 * @return The {@code ProcessingJob}
+	 */
+	ProcessingJob createJob(ProcessingRequest request, ProcessingResultListener listener)
+	{
+		ProcessingJob job = new ProcessingJob(request, this, listener);
+
+		pendingJobs.add(job);
+
+		if(shutDown)
+		{
+			job.cancel(false);
+		}
+
+		return job;
+	}
+
+	/**
+	 * Schedules the given {@link ProcessingJob}. The first poll is executed
+	 * immediately.
+	 * 
+	 * @param job The {@code ProcessingJob}
+	 * @param urlString The request {@code URL} ({@code String}
+	 *        representation) with {@code async=true}
+	 * @param cacheKey The key of the result cache
+	 */
+	void schedule(ProcessingJob job, String urlString, String cacheKey)
+	{
+		executePoll(job, urlString, cacheKey, initialDelay);
+	}
+
+	/**
+	 * Cancels all pending {@link ProcessingJob}s. Jobs which are created
+	 * afterwards are cancelled immediately.
+	 */
+	void shutdown()
+	{
+		shutDown = true;
+
+		for(ProcessingJob job : pendingJobs)
+		{
+			job.cancel(false);
+		}
+	}
+
+	/**
+	 * Unregisters the given completed {@link ProcessingJob}.
+	 * 
+	 * @param job The {@code ProcessingJob}
+	 */
+	void jobFinished(ProcessingJob job)
+	{
+		pendingJobs.remove(job);
+	}
+
+	/**
+	 * Hands the next poll of the given {@link ProcessingJob} to the
+	 * {@code ExecutorService} of the {@link ProcessingServiceImpl}, so a
+	 * blocking HTTP request never stalls the shared polling threads.
+	 * 
+	 * @param job The {@code ProcessingJob}
+	 * @param urlString The request {@code URL} ({@code String}
+	 *        representation) with {@code async=true}
+	 * @param cacheKey The key of the result cache
+	 * @param delay The delay until the following poll in milliseconds
+	 */
+	private void executePoll(final ProcessingJob job, final String urlString, final String cacheKey, final long delay)
+	{
+		if(job.isDone())
+		{
+			return;
+		}
+
+		try
+		{
+			processingService.getExecutorService().execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					poll(job, urlString, cacheKey, delay);
+				}
+			});
+		}
+		catch(RejectedExecutionException e)
+		{
+			job.fail(e);
+		}
+	}
+
+	/**
+	 * Polls the given {@link ProcessingJob} once and schedules the next poll
+	 * if the resource is still being processed.
+	 * 
+	 * @param job The {@code ProcessingJob}
+	 * @param urlString The request {@code URL} ({@code String}
+	 *        representation) with {@code async=true}
+	 * @param cacheKey The key of the result cache
+	 * @param delay The delay until the next poll in milliseconds
+	 */
+	private void poll(final ProcessingJob job, final String urlString, final String cacheKey, final long delay)
+	{
+		if(job.isDone())
+		{
+			return;
+		}
+
+		try
+		{
+			job.complete(processingService.pollResultURL(job.getRequest().getOperation(), urlString, cacheKey));
+		}
+		catch(ProcessingException e)
+		{
+			if(e.getStatusCode() != 202)
+			{
+				job.fail(e);
+			}
+			else if(timeoutNanos > 0 && System.nanoTime() - job.getCreationTime() + TimeUnit.MILLISECONDS.toNanos(delay) > timeoutNanos)
+			{
+				job.fail(new TimeoutException("The job \"" + urlString + "\" has not been completed within the maximum duration."));
+			}
+			else if(!job.isDone())
+			{
+				pollingScheduler.schedule(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						executePoll(job, urlString, cacheKey, Math.min(delay * 2, maxDelay));
+					}
+				}, delay, TimeUnit.MILLISECONDS);
+			}
+		}
+		catch(RuntimeException e)
+		{
+			job.fail(e);
+		}
+	}
+}
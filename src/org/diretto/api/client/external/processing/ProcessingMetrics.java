@@ -0,0 +1,191 @@
+package org.diretto.api.client.external.processing;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.diretto.api.client.external.processing.ProcessingRequest.Operation;
+
+/**
+ * This class contains the built-in metrics of a {@link ProcessingService}.
+ * <br/><br/>
+ * 
+ * It records the number of requests, the latencies and the number of pending
+ * requests per {@link Operation}, the received status codes and the latencies
+ * of the validation lookups. All values are recorded without locks and can be
+ * read at any time. <br/><br/>
+ * 
+ * <i>Annotation:</i> The values can only be recorded by the
+ * {@link ProcessingService} itself. To observe the single requests, a
+ * {@link ProcessingMetricsListener} can be registered.
+ */
+public final class ProcessingMetrics
+{
+	private static final int MIN_STATUS_CODE = 100;
+
+	private static final int MAX_STATUS_CODE = 599;
+
+	private final AtomicLongArray requestCounts = new AtomicLongArray(Operation.values().length);
+
+	private final AtomicIntegerArray inFlightCounts = new AtomicIntegerArray(Operation.values().length);
+
+	private final LatencyHistogram[] latencyHistograms = new LatencyHistogram[Operation.values().length];
+
+	private final AtomicLongArray statusCodeCounts = new AtomicLongArray(MAX_STATUS_CODE - MIN_STATUS_CODE + 1);
+
+	private final AtomicLong otherStatusCodeCount = new AtomicLong();
+
+	private final LatencyHistogram validationLatencyHistogram = new LatencyHistogram();
+
+	/**
+	 * Constructs an empty {@link ProcessingMetrics} object.
+	 */
+	ProcessingMetrics()
+	{
+		for(int i = 0; i < latencyHistograms.length; i++)
+		{
+			latencyHistograms[i] = new LatencyHistogram();
+		}
+	}
+
+	/**
+	 * Records that an HTTP request of the given {@link Operation} has been
+	 * started.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 */
+	void recordRequestStarted(Operation operation)
+	{
+		inFlightCounts.incrementAndGet(operation.ordinal());
+	}
+
+	/**
+	 * Records that an HTTP request of the given {@link Operation} has been
+	 * completed.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 * @param statusCode The status code of the response or
+	 *        {@link ProcessingResult#NO_STATUS_CODE} if no response has been
+	 *        received
+	 * @param durationNanos The duration of the request in nanoseconds
+	 */
+	void recordRequestCompleted(Operation operation, int statusCode, long durationNanos)
+	{
+		inFlightCounts.decrementAndGet(operation.ordinal());
+		requestCounts.incrementAndGet(operation.ordinal());
+		latencyHistograms[operation.ordinal()].record(durationNanos);
+
+		if(statusCode >= MIN_STATUS_CODE && statusCode <= MAX_STATUS_CODE)
+		{
+			statusCodeCounts.incrementAndGet(statusCode - MIN_STATUS_CODE);
+		}
+		else
+		{
+			otherStatusCodeCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Records that a validation lookup of the {@code Core API} has been
+	 * completed.
+	 * 
+	 * @param durationNanos The duration of the lookup in nanoseconds
+	 */
+	void recordValidationLookup(long durationNanos)
+	{
+		validationLatencyHistogram.record(durationNanos);
+	}
+
+	/**
+	 * Returns the number of completed HTTP requests of the given
+	 * {@link Operation}.
+	 * 
+	 * @param operation The {@code Operation}
+	 * @return The number of completed requests
+	 */
+	public long getRequestCount(Operation operation)
+	{
+		return requestCounts.get(operation.ordinal());
+	}
+
+	/**
+	 * Returns the number of pending HTTP requests of the given
+	 * {@link Operation}.
+	 * 
+	 * @param operation The {@code Operation}
+	 * @return The number of pending requests
+	 */
+	public int getInFlightCount(Operation operation)
+	{
+		return inFlightCounts.get(operation.ordinal());
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the HTTP requests of the given
+	 * {@link Operation}.
+	 * 
+	 * @param operation The {@code Operation}
+	 * @return The {@code LatencyHistogram}
+	 */
+	public LatencyHistogram getLatencyHistogram(Operation operation)
+	{
+		return latencyHistograms[operation.ordinal()];
+	}
+
+	/**
+	 * Returns the number of responses with the given status code (e.g.
+	 * {@code 303}, {@code 400} or {@code 404}).
+	 * 
+	 * @param statusCode The HTTP status code ({@code 100 <= statusCode <= 599})
+	 * @return The number of responses
+	 */
+	public long getStatusCodeCount(int statusCode)
+	{
+		if(statusCode < MIN_STATUS_CODE || statusCode > MAX_STATUS_CODE)
+		{
+			throw new IllegalArgumentException();
+		}
+
+		return statusCodeCounts.get(statusCode - MIN_STATUS_CODE);
+	}
+
+	/**
+	 * Returns the number of responses with a server error status code
+	 * ({@code 5xx}).
+	 * 
+	 * @return The number of server errors
+	 */
+	public long getServerErrorCount()
+	{
+		long count = 0;
+
+		for(int statusCode = 500; statusCode <= MAX_STATUS_CODE; statusCode++)
+		{
+			count += statusCodeCounts.get(statusCode - MIN_STATUS_CODE);
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the number of failed requests without an HTTP status code (e.g.
+	 * connector errors of the <i>Restlet</i> client).
+	 * 
+	 * @return The number of failed requests without an HTTP status code
+	 */
+	public long getOtherStatusCodeCount()
+	{
+		return otherStatusCodeCount.get();
+	}
+
+	/**
+	 * Returns the {@link LatencyHistogram} of the validation lookups at the
+	 * {@code CoreService}.
+	 * 
+	 * @return The {@code LatencyHistogram}
+	 */
+	public LatencyHistogram getValidationLatencyHistogram()
+	{
+		return validationLatencyHistogram;
+	}
+}
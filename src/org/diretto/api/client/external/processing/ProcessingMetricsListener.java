@@ -0,0 +1,40 @@
+package org.diretto.api.client.external.processing;
+
+import org.diretto.api.client.external.processing.ProcessingRequest.Operation;
+
+/**
+ * This interface represents a listener which is notified about the requests
+ * of a {@link ProcessingService}. It can be used to connect the
+ * {@code ProcessingService} to an external metrics system. <br/><br/>
+ * 
+ * <i>Important:</i> The methods are invoked by the threads which execute the
+ * requests, so they may be invoked concurrently and should return quickly.
+ */
+public interface ProcessingMetricsListener
+{
+	/**
+	 * Is invoked before an HTTP request is sent to the {@code Processing API}.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 */
+	void requestStarted(Operation operation);
+
+	/**
+	 * Is invoked after the response of an HTTP request to the
+	 * {@code Processing API} has been received or the request has failed.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 * @param statusCode The status code of the response ({@code 303} if the
+	 *        request was successful)
+	 * @param durationNanos The duration of the request in nanoseconds
+	 */
+	void requestCompleted(Operation operation, int statusCode, long durationNanos);
+
+	/**
+	 * Is invoked after the {@code CoreService} has been requested to validate
+	 * a {@code Document} or an {@code Attachment}.
+	 * 
+	 * @param durationNanos The duration of the lookup in nanoseconds
+	 */
+	void validationLookupCompleted(long durationNanos);
+}
@@ -0,0 +1,257 @@
+package org.diretto.api.client.external.processing;
+
+import org.diretto.api.client.external.processing.ProcessingService.Fixed;
+import org.diretto.api.client.main.core.entities.AttachmentID;
+import org.diretto.api.client.main.core.entities.DocumentID;
+
+/**
+ * This class represents an immutable request for a resource of the
+ * {@link ProcessingService}, which can be resolved together with other
+ * requests (see {@link ProcessingService#getResultURLs(java.util.Collection)}).
+ * <br/><br/>
+ * 
+ * The instances are created by the <i>static factory methods</i> of the
+ * class.
+ */
+public final class ProcessingRequest
+{
+	/**
+	 * Determines the operation of the {@code Processing API} which is executed
+	 * for a {@code ProcessingRequest}.
+	 */
+	public enum Operation
+	{
+		/**
+		 * A (quadratic) thumbnail of a resource ({@code /process/generic/thumbnail}).
+		 */
+		THUMBNAIL,
+
+		/**
+		 * A resized image ({@code /process/image/resized}).
+		 */
+		IMAGE,
+
+		/**
+		 * A snapshot of a video ({@code /process/video/still}).
+		 */
+		VIDEO_SNAPSHOT;
+	}
+
+	private final Operation operation;
+
+	private final DocumentID documentID;
+
+	private final AttachmentID attachmentID;
+
+	private final int size;
+
+	private final Fixed fixed;
+
+	private final float time;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the {@code public}
+	 * <i>static factory methods</i> return the instances of the class.
+	 * 
+	 * @param operation The {@code Operation}
+	 * @param documentID A {@code DocumentID} or {@code null}
+	 * @param attachmentID An {@code AttachmentID} or {@code null}
+	 * @param size The size in pixels
+	 * @param fixed The {@code Fixed} value or {@code null}
+	 * @param time The time of extraction of a video snapshot
+	 */
+	private ProcessingRequest(Operation operation, DocumentID documentID, AttachmentID attachmentID, int size, Fixed fixed, float time)
+	{
+		if(documentID == null && attachmentID == null)
+		{
+			throw new NullPointerException();
+		}
+
+		this.operation = operation;
+		this.documentID = documentID;
+		this.attachmentID = attachmentID;
+		this.size = size;
+		this.fixed = fixed;
+		this.time = time;
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for a thumbnail.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest thumbnail(DocumentID documentID, int size)
+	{
+		return new ProcessingRequest(Operation.THUMBNAIL, documentID, null, size, null, 0.0f);
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for a thumbnail.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest thumbnail(AttachmentID attachmentID, int size)
+	{
+		return new ProcessingRequest(Operation.THUMBNAIL, null, attachmentID, size, null, 0.0f);
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for an image.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest image(DocumentID documentID, int size, Fixed fixed)
+	{
+		if(fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return new ProcessingRequest(Operation.IMAGE, documentID, null, size, fixed, 0.0f);
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for an image.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest image(AttachmentID attachmentID, int size, Fixed fixed)
+	{
+		if(fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return new ProcessingRequest(Operation.IMAGE, null, attachmentID, size, fixed, 0.0f);
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for a video snapshot.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest videoSnapshot(DocumentID documentID, int size, Fixed fixed, float time)
+	{
+		if(fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return new ProcessingRequest(Operation.VIDEO_SNAPSHOT, documentID, null, size, fixed, time);
+	}
+
+	/**
+	 * Returns a {@link ProcessingRequest} for a video snapshot.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @return The {@code ProcessingRequest}
+	 */
+	public static ProcessingRequest videoSnapshot(AttachmentID attachmentID, int size, Fixed fixed, float time)
+	{
+		if(fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return new ProcessingRequest(Operation.VIDEO_SNAPSHOT, null, attachmentID, size, fixed, time);
+	}
+
+	/**
+	 * Returns the {@link Operation} of this {@link ProcessingRequest}.
+	 * 
+	 * @return The {@code Operation}
+	 */
+	public Operation getOperation()
+	{
+		return operation;
+	}
+
+	/**
+	 * Returns the {@link DocumentID} of this {@link ProcessingRequest}.
+	 * 
+	 * @return The {@code DocumentID} or {@code null} if the request belongs to
+	 *         an {@code AttachmentID}
+	 */
+	public DocumentID getDocumentID()
+	{
+		return documentID;
+	}
+
+	/**
+	 * Returns the {@link AttachmentID} of this {@link ProcessingRequest}.
+	 * 
+	 * @return The {@code AttachmentID} or {@code null} if the request belongs
+	 *         to a {@code DocumentID}
+	 */
+	public AttachmentID getAttachmentID()
+	{
+		return attachmentID;
+	}
+
+	/**
+	 * Returns the size in pixels.
+	 * 
+	 * @return The size
+	 */
+	public int getSize()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the {@link Fixed} value.
+	 * 
+	 * @return The {@code Fixed} value or {@code null} if the request belongs to
+	 *         a thumbnail
+	 */
+	public Fixed getFixed()
+	{
+		return fixed;
+	}
+
+	/**
+	 * Returns the time of extraction of a video snapshot.
+	 * 
+	 * @return The time ({@code 0 <= time <= 1})
+	 */
+	public float getTime()
+	{
+		return time;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ProcessingRequest [operation=" + operation + ", id=" + (documentID != null ? documentID : attachmentID) + ", size=" + size + ", fixed=" + fixed + ", time=" + time + "]";
+	}
+}
@@ -0,0 +1,104 @@
+package org.diretto.api.client.external.processing;
+
+import java.net.URL;
+
+/**
+ * This class represents the immutable result of a {@link ProcessingRequest}.
+ */
+public final class ProcessingResult
+{
+	/**
+	 * The status code of a {@code ProcessingResult} whose request has not been
+	 * answered by the {@code Processing API} (e.g. because of invalid
+	 * arguments).
+	 */
+	public static final int NO_STATUS_CODE = -1;
+
+	private final ProcessingRequest request;
+
+	private final URL url;
+
+	private final int statusCode;
+
+	private final RuntimeException exception;
+
+	/**
+	 * Constructs a {@link ProcessingResult}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param url The real resource {@code URL} or {@code null}
+	 * @param statusCode The status code of the response
+	 * @param exception The cause of the failure or {@code null}
+	 */
+	ProcessingResult(ProcessingRequest request, URL url, int statusCode, RuntimeException exception)
+	{
+		this.request = request;
+		this.url = url;
+		this.statusCode = statusCode;
+		this.exception = exception;
+	}
+
+	/**
+	 * Returns the corresponding {@link ProcessingRequest}.
+	 * 
+	 * @return The {@code ProcessingRequest}
+	 */
+	public ProcessingRequest getRequest()
+	{
+		return request;
+	}
+
+	/**
+	 * Returns the real resource {@link URL}.
+	 * 
+	 * @return The {@code URL} or {@code null} if the request failed
+	 */
+	public URL getURL()
+	{
+		return url;
+	}
+
+	/**
+	 * Returns the status code of the response of the {@code Processing API}
+	 * ({@code 303} if the request was successful).
+	 * 
+	 * @return The status code or {@link #NO_STATUS_CODE} if there is no
+	 *         response
+	 */
+	public int getStatusCode()
+	{
+		return statusCode;
+	}
+
+	/**
+	 * Returns the cause of the failure. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Invalid arguments are reported as
+	 * {@link IllegalArgumentException} and failed requests as
+	 * {@link ProcessingException}.
+	 * 
+	 * @return The cause of the failure or {@code null} if the request was
+	 *         successful
+	 */
+	public RuntimeException getException()
+	{
+		return exception;
+	}
+
+	/**
+	 * Checks whether the request was successful.
+	 * 
+	 * @return {@code true} if the real resource {@code URL} is available;
+	 *         otherwise {@code false}
+	 */
+	public boolean isSuccessful()
+	{
+		return url != null;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "ProcessingResult [request=" + request + ", url=" + url + ", statusCode=" + statusCode + ", exception=" + exception + "]";
+	}
+}
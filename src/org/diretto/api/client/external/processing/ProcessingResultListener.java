@@ -0,0 +1,21 @@
+package org.diretto.api.client.external.processing;
+
+/**
+ * This interface represents a listener which is notified as soon as a
+ * {@link ProcessingResult} of a batch of {@link ProcessingRequest}s is
+ * available.
+ */
+public interface ProcessingResultListener
+{
+	/**
+	 * Is invoked as soon as the {@link ProcessingResult} of the request at the
+	 * specified position is available. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The method is invoked by the threads which execute the
+	 * requests, so it may be invoked concurrently and in any order.
+	 * 
+	 * @param index The position of the request in the batch
+	 * @param result The {@code ProcessingResult}
+	 */
+	void resultAvailable(int index, ProcessingResult result);
+}
@@ -1,6 +1,11 @@
 package org.diretto.api.client.external.processing;
 
 import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.diretto.api.client.main.core.entities.AttachmentID;
 import org.diretto.api.client.main.core.entities.DocumentID;
@@ -38,6 +43,39 @@ public interface ProcessingService extends Service
 		HEIGHT;
 	}
 
+	/**
+	 * Determines how the arguments of the {@code URL} methods are validated
+	 * before the {@code URL} is created or requested.
+	 */
+	public enum ValidationMode
+	{
+		/**
+		 * The existence and the media type of the {@code Document} or the
+		 * {@code Attachment} are checked with a request to the
+		 * {@code CoreService} on every invocation.
+		 */
+		REMOTE,
+
+		/**
+		 * The existence and the media type of the {@code Document} or the
+		 * {@code Attachment} are checked with a request to the
+		 * {@code CoreService}, but the result is cached for later invocations.
+		 * Nonexistent resources are cached for a shorter time, so a resource
+		 * which has been created after a failed check is accepted soon. The
+		 * times to live are specified in the XML configuration file. This is
+		 * the default mode.
+		 */
+		CACHED,
+
+		/**
+		 * Only the local arguments (e.g. the size) are checked. Requests for
+		 * nonexistent resources or resources with an unsuitable media type
+		 * will be rejected by the {@code Processing API} ({@code 400 Bad
+		 * Request} or {@code 404 Not Found}).
+		 */
+		LOCAL;
+	}
+
 	/**
 	 * Returns the {@link URL} of the thumbnail with the specified data.
 	 * <br/><br/>
@@ -395,4 +433,659 @@ public interface ProcessingService extends Service
 	 * @return The {@code URL} of the video snapshot
 	 */
 	URL getVideoSnapshotURL(AttachmentID attachmentID, int size, Fixed fixed, float time, boolean immediate);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the thumbnail with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @return The {@code Future} of the thumbnail {@code URL}
+	 */
+	Future<URL> getThumbnailURLAsync(DocumentID documentID, int size);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the thumbnail with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the thumbnail {@code URL}
+	 */
+	Future<URL> getThumbnailURLAsync(DocumentID documentID, int size, long timeout, TimeUnit unit);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the thumbnail with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @return The {@code Future} of the thumbnail {@code URL}
+	 */
+	Future<URL> getThumbnailURLAsync(AttachmentID attachmentID, int size);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the thumbnail with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels ({@code 16 <=
+	 *        size <= 256})
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the thumbnail {@code URL}
+	 */
+	Future<URL> getThumbnailURLAsync(AttachmentID attachmentID, int size, long timeout, TimeUnit unit);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the image with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @return The {@code Future} of the image {@code URL}
+	 */
+	Future<URL> getImageURLAsync(DocumentID documentID, int size, Fixed fixed);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the image with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the image {@code URL}
+	 */
+	Future<URL> getImageURLAsync(DocumentID documentID, int size, Fixed fixed, long timeout, TimeUnit unit);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the image with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @return The {@code Future} of the image {@code URL}
+	 */
+	Future<URL> getImageURLAsync(AttachmentID attachmentID, int size, Fixed fixed);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the image with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the image; {@code Fixed.HEIGHT} if the {@code size} value
+	 *        specifies the height of the image
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the image {@code URL}
+	 */
+	Future<URL> getImageURLAsync(AttachmentID attachmentID, int size, Fixed fixed, long timeout, TimeUnit unit);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the video snapshot with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @return The {@code Future} of the video snapshot {@code URL}
+	 */
+	Future<URL> getVideoSnapshotURLAsync(DocumentID documentID, int size, Fixed fixed, float time);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the video snapshot with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the video snapshot {@code URL}
+	 */
+	Future<URL> getVideoSnapshotURLAsync(DocumentID documentID, int size, Fixed fixed, float time, long timeout, TimeUnit unit);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the video snapshot with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be aborted with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @return The {@code Future} of the video snapshot {@code URL}
+	 */
+	Future<URL> getVideoSnapshotURLAsync(AttachmentID attachmentID, int size, Fixed fixed, float time);
+
+	/**
+	 * Returns a {@link Future} which will provide the real resource
+	 * {@link URL} of the video snapshot with the specified data. <br/><br/>
+	 * 
+	 * <i>Important:</i> The request is executed by the {@link ExecutorService}
+	 * of this {@link ProcessingService} (see
+	 * {@link #setExecutorService(ExecutorService)}), so the calling thread is
+	 * not blocked. The result of the {@code Future} corresponds to the result
+	 * of the blocking method with {@code immediate = false}, so it will be
+	 * {@code null} if the {@code Processing API} does not answer with
+	 * {@code 303 See Other}. If the given data are invalid, {@link Future#get()}
+	 * throws a {@link java.util.concurrent.ExecutionException} with an
+	 * {@link IllegalArgumentException} as cause. <br/><br/>
+	 * 
+	 * The request can be cancelled with {@link Future#cancel(boolean)}. If the
+	 * request has not been completed within the given timeout, the
+	 * {@code Future} will be cancelled automatically. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> A cancellation (and therefore a timeout) only cancels
+	 * the {@code Future}. A request which has not been started yet will not be
+	 * executed, but an HTTP request which is already in progress is not
+	 * aborted.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshot; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshot
+	 * @param time This value determines the time of extraction of the snapshot
+	 *        ({@code 0 <= time <= 1 | 0.5 = the middle of the video})
+	 * @param timeout The maximum time to wait for the result
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the video snapshot {@code URL}
+	 */
+	Future<URL> getVideoSnapshotURLAsync(AttachmentID attachmentID, int size, Fixed fixed, float time, long timeout, TimeUnit unit);
+
+	/**
+	 * Resolves the real resource {@link URL} of the given
+	 * {@link ProcessingRequest} asynchronously and notifies the given
+	 * {@link ProcessingResultListener} as soon as the {@link ProcessingResult}
+	 * is available. <br/><br/>
+	 * 
+	 * <i>Important:</i> In contrast to the {@code *Async} methods above, the
+	 * caller does not have to wait in {@link Future#get()} for the result.
+	 * However, every request which is being executed still occupies a thread
+	 * of the {@link ExecutorService} until its HTTP response has been
+	 * received. The listener is notified exactly once with the index {@code 0}, also if
+	 * the request is invalid, fails, is cancelled or exceeds the given timeout.
+	 * In the last two cases the {@code ProcessingResult} contains a
+	 * {@link java.util.concurrent.CancellationException}, but an HTTP request
+	 * which is already in progress is not aborted. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The listener is notified by the thread which completes
+	 * the request, so it should return quickly.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param timeout The maximum time to wait for the result ({@code 0} for no
+	 *        timeout)
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}
+	 */
+	Future<ProcessingResult> getResultURLAsync(ProcessingRequest request, long timeout, TimeUnit unit, ProcessingResultListener listener);
+
+	/**
+	 * Sets the {@link ExecutorService} which executes the asynchronous
+	 * requests of this {@link ProcessingService} (e.g. the {@code *Async}
+	 * methods). If no {@code ExecutorService} is set, a thread pool with
+	 * daemon threads will be used, whose size is limited to the maximum number
+	 * of concurrent requests of the connection pool. Further requests wait in
+	 * the queue of the thread pool instead of occupying a thread each.
+	 * <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The given {@code ExecutorService} will not be shut
+	 * down by the {@code ProcessingService}. Since every executed request
+	 * occupies a thread until its response has been received, the given
+	 * {@code ExecutorService} should not have considerably more threads than
+	 * concurrent requests are allowed by the connection pool.
+	 * 
+	 * @param executorService An {@code ExecutorService} or {@code null} to use
+	 *        the default {@code ExecutorService}
+	 */
+	void setExecutorService(ExecutorService executorService);
+
+	/**
+	 * Shuts down this {@link ProcessingService}. <br/><br/>
+	 * 
+	 * All {@code ProcessingService} instances share one <i>Restlet</i> client
+	 * and therefore one connection pool, which is started with the first
+	 * instance. This method releases the reference of this instance, and the
+	 * client is stopped as soon as the last instance has been shut down.
+	 * Furthermore the pending jobs of {@link #submitJob(ProcessingRequest)}
+	 * are cancelled and the default {@link ExecutorService} of this instance
+	 * is shut down. <br/><br/>
+	 * 
+	 * <i>Important:</i> The instance must not be used after the invocation of
+	 * this method.
+	 */
+	void shutdown();
+
+	/**
+	 * Resolves the real resource {@link URL}s of the given
+	 * {@link ProcessingRequest}s concurrently and returns the
+	 * {@link ProcessingResult}s in the order of the requests. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The number of concurrent requests is limited by the
+	 * connection pool of the <i>Restlet</i> client ({@code maxConnectionsPerHost}
+	 * and {@code maxTotalConnections} in the XML configuration file). Invalid
+	 * requests and failed requests do not affect the other requests but are
+	 * reported by the corresponding {@code ProcessingResult}. <br/><br/>
+	 * 
+	 * <i>Important:</i> This method blocks until all requests have been
+	 * completed. If the calling thread is interrupted, the requests which have
+	 * not been started yet will not be executed and an
+	 * {@link IllegalStateException} is thrown.
+	 * 
+	 * @param requests The {@code ProcessingRequest}s
+	 * @return The {@code ProcessingResult}s
+	 */
+	List<ProcessingResult> getResultURLs(Collection<ProcessingRequest> requests);
+
+	/**
+	 * Resolves the real resource {@link URL}s of the given
+	 * {@link ProcessingRequest}s concurrently. The given
+	 * {@link ProcessingResultListener} is notified as soon as a single
+	 * {@link ProcessingResult} is available. The returned {@link Future}
+	 * provides all {@code ProcessingResult}s in the order of the requests.
+	 * <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The number of concurrent requests is limited by the
+	 * connection pool of the <i>Restlet</i> client ({@code maxConnectionsPerHost}
+	 * and {@code maxTotalConnections} in the XML configuration file). If the
+	 * {@code Future} is cancelled, the requests which have not been started yet
+	 * will not be executed.
+	 * 
+	 * @param requests The {@code ProcessingRequest}s
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}s
+	 */
+	Future<List<ProcessingResult>> getResultURLs(Collection<ProcessingRequest> requests, ProcessingResultListener listener);
+
+	/**
+	 * Resolves the real resource {@link URL}s of the given number of evenly
+	 * spaced video snapshots (e.g. for a filmstrip or the preview of a
+	 * scrubber). <br/><br/>
+	 * 
+	 * The video is validated only once. Then the snapshots are requested as
+	 * asynchronous jobs (see {@link #submitJob(ProcessingRequest)}), so they do
+	 * not occupy connections while the video is being processed. The number of
+	 * pending jobs of a filmstrip is limited by the XML configuration file
+	 * ({@code filmstrip/max-pending-jobs}). The given
+	 * {@link ProcessingResultListener} is notified as soon as a single
+	 * snapshot is available, so the first snapshots can be shown before the
+	 * last ones have been processed. The returned {@link Future} provides all
+	 * {@link ProcessingResult}s in the order of the times.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the snapshots in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshots; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshots
+	 * @param count The number of snapshots ({@code count >= 1}), which are
+	 *        taken from the middles of {@code count} equal sections of the
+	 *        video
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}s
+	 */
+	Future<List<ProcessingResult>> getFilmstripURLs(DocumentID documentID, int size, Fixed fixed, int count, ProcessingResultListener listener);
+
+	/**
+	 * Resolves the real resource {@link URL}s of the video snapshots at the
+	 * given times of extraction (e.g. for a filmstrip or the preview of a
+	 * scrubber). <br/><br/>
+	 * 
+	 * The video is validated only once. Then the snapshots are requested as
+	 * asynchronous jobs (see {@link #submitJob(ProcessingRequest)}), so they do
+	 * not occupy connections while the video is being processed. The number of
+	 * pending jobs of a filmstrip is limited by the XML configuration file
+	 * ({@code filmstrip/max-pending-jobs}). The given
+	 * {@link ProcessingResultListener} is notified as soon as a single
+	 * snapshot is available, so the first snapshots can be shown before the
+	 * last ones have been processed. The returned {@link Future} provides all
+	 * {@link ProcessingResult}s in the order of the times.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param size The width or the height of the snapshots in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshots; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshots
+	 * @param times The times of extraction of the snapshots ({@code 0 <= time
+	 *        <= 1 | 0.5 = the middle of the video})
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}s
+	 */
+	Future<List<ProcessingResult>> getFilmstripURLs(DocumentID documentID, int size, Fixed fixed, float[] times, ProcessingResultListener listener);
+
+	/**
+	 * Resolves the real resource {@link URL}s of the given number of evenly
+	 * spaced video snapshots (e.g. for a filmstrip or the preview of a
+	 * scrubber). <br/><br/>
+	 * 
+	 * The video is validated only once. Then the snapshots are requested as
+	 * asynchronous jobs (see {@link #submitJob(ProcessingRequest)}), so they do
+	 * not occupy connections while the video is being processed. The number of
+	 * pending jobs of a filmstrip is limited by the XML configuration file
+	 * ({@code filmstrip/max-pending-jobs}). The given
+	 * {@link ProcessingResultListener} is notified as soon as a single
+	 * snapshot is available, so the first snapshots can be shown before the
+	 * last ones have been processed. The returned {@link Future} provides all
+	 * {@link ProcessingResult}s in the order of the times.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the snapshots in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshots; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshots
+	 * @param count The number of snapshots ({@code count >= 1}), which are
+	 *        taken from the middles of {@code count} equal sections of the
+	 *        video
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}s
+	 */
+	Future<List<ProcessingResult>> getFilmstripURLs(AttachmentID attachmentID, int size, Fixed fixed, int count, ProcessingResultListener listener);
+
+	/**
+	 * Resolves the real resource {@link URL}s of the video snapshots at the
+	 * given times of extraction (e.g. for a filmstrip or the preview of a
+	 * scrubber). <br/><br/>
+	 * 
+	 * The video is validated only once. Then the snapshots are requested as
+	 * asynchronous jobs (see {@link #submitJob(ProcessingRequest)}), so they do
+	 * not occupy connections while the video is being processed. The number of
+	 * pending jobs of a filmstrip is limited by the XML configuration file
+	 * ({@code filmstrip/max-pending-jobs}). The given
+	 * {@link ProcessingResultListener} is notified as soon as a single
+	 * snapshot is available, so the first snapshots can be shown before the
+	 * last ones have been processed. The returned {@link Future} provides all
+	 * {@link ProcessingResult}s in the order of the times.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param size The width or the height of the snapshots in pixels
+	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
+	 *        width of the snapshots; {@code Fixed.HEIGHT} if the {@code size}
+	 *        value specifies the height of the snapshots
+	 * @param times The times of extraction of the snapshots ({@code 0 <= time
+	 *        <= 1 | 0.5 = the middle of the video})
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code Future} of the {@code ProcessingResult}s
+	 */
+	Future<List<ProcessingResult>> getFilmstripURLs(AttachmentID attachmentID, int size, Fixed fixed, float[] times, ProcessingResultListener listener);
+
+	/**
+	 * Submits the given {@link ProcessingRequest} as an asynchronous job of the
+	 * {@code Processing API} and returns a {@link Future} which will provide
+	 * the real resource {@link URL}. <br/><br/>
+	 * 
+	 * In contrast to the other methods the request is sent with
+	 * {@code async=true}, so the {@code Processing API} answers immediately
+	 * with {@code 202 Accepted} as long as the resource is being processed.
+	 * The job is polled with an increasing delay until the
+	 * {@code 303 See Other} response arrives. The polls are triggered by a few
+	 * shared threads and executed by the {@link ExecutorService} of this
+	 * {@code ProcessingService}. Therefore long running jobs (e.g. video
+	 * snapshots of large videos) do not occupy a connection of the connection
+	 * pool. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The delays and the maximum duration of a job are
+	 * specified in the XML configuration file. If the request is invalid or
+	 * fails, the {@code Future} will throw an {@code ExecutionException} with
+	 * an {@link IllegalArgumentException} or a {@link ProcessingException} as
+	 * cause. If the maximum duration is exceeded, the cause will be a
+	 * {@link java.util.concurrent.TimeoutException}. The polling can be
+	 * stopped with {@link Future#cancel(boolean)}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @return The {@code Future} of the real resource {@code URL}
+	 */
+	Future<URL> submitJob(ProcessingRequest request);
+
+	/**
+	 * Returns the statistics of the result cache. <br/><br/>
+	 * 
+	 * The result cache contains the real resource {@link URL}s which have been
+	 * requested with {@code immediate = false}. Its maximum size and the time
+	 * to live of its entries are specified in the XML configuration file.
+	 * 
+	 * @return The {@code CacheStatistics} of the result cache
+	 */
+	CacheStatistics getResultURLCacheStatistics();
+
+	/**
+	 * Sets the {@link ValidationMode} of this {@link ProcessingService}. The
+	 * initial {@code ValidationMode} is specified in the XML configuration
+	 * file ({@code ValidationMode.CACHED} if it is not specified). <br/><br/>
+	 * 
+	 * <i>Annotation:</i> With {@code ValidationMode.CACHED} or
+	 * {@code ValidationMode.LOCAL} the methods with {@code immediate = true}
+	 * usually return without any network I/O.
+	 * 
+	 * @param validationMode The {@code ValidationMode}
+	 */
+	void setValidationMode(ValidationMode validationMode);
+
+	/**
+	 * Returns the statistics of the validation cache, which is used in the
+	 * {@link ValidationMode#CACHED} mode.
+	 * 
+	 * @return The {@code CacheStatistics} of the validation cache
+	 */
+	CacheStatistics getValidationCacheStatistics();
+
+	/**
+	 * Returns the built-in {@link ProcessingMetrics} of this
+	 * {@link ProcessingService}, which contain the request counts, the
+	 * latencies, the received status codes and the number of pending requests
+	 * per operation as well as the latencies of the validation lookups.
+	 * 
+	 * @return The {@code ProcessingMetrics}
+	 */
+	ProcessingMetrics getMetrics();
+
+	/**
+	 * Registers the given {@link ProcessingMetricsListener}, which will be
+	 * notified about every HTTP request and every validation lookup of this
+	 * {@link ProcessingService}.
+	 * 
+	 * @param listener The {@code ProcessingMetricsListener}
+	 */
+	void addMetricsListener(ProcessingMetricsListener listener);
+
+	/**
+	 * Unregisters the given {@link ProcessingMetricsListener}.
+	 * 
+	 * @param listener The {@code ProcessingMetricsListener}
+	 */
+	void removeMetricsListener(ProcessingMetricsListener listener);
 }
@@ -1,18 +1,36 @@
 package org.diretto.api.client.external.processing;
 
-import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.configuration.XMLConfiguration;
 import org.diretto.api.client.JavaClient;
 import org.diretto.api.client.JavaClientImpl;
 import org.diretto.api.client.base.annotations.InvocationLimited;
+import org.diretto.api.client.base.data.MediaMainType;
 import org.diretto.api.client.base.data.MediaTypeFactory;
-import org.diretto.api.client.base.external.JacksonConverter;
 import org.diretto.api.client.base.types.LoadType;
+import org.diretto.api.client.external.processing.ProcessingRequest.Operation;
 import org.diretto.api.client.main.core.CoreService;
 import org.diretto.api.client.main.core.entities.Attachment;
 import org.diretto.api.client.main.core.entities.AttachmentID;
@@ -22,10 +40,6 @@ import org.diretto.api.client.service.AbstractService;
 import org.diretto.api.client.util.InvocationUtils;
 import org.diretto.api.client.util.URLTransformationUtils;
 import org.restlet.Client;
-import org.restlet.Context;
-import org.restlet.data.Protocol;
-import org.restlet.engine.Engine;
-import org.restlet.engine.converter.ConverterHelper;
 import org.restlet.resource.ClientResource;
 import org.restlet.resource.ResourceException;
 
@@ -37,9 +51,37 @@ import org.restlet.resource.ResourceException;
  */
 public final class ProcessingServiceImpl extends AbstractService implements ProcessingService
 {
+	private static final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("ProcessingService-Timeout"));
+
 	private final CoreService coreService;
 
-	private Client restletClient;
+	private final ProcessingURLBuilder urlBuilder;
+
+	private final ExpiringCache<String, URL> resultURLCache;
+
+	private final ExpiringCache<String, MediaMainType> validationCache;
+
+	private volatile ValidationMode validationMode;
+
+	private final SharedRestletClient sharedRestletClient;
+
+	private final Client restletClient;
+
+	private final String serviceHostKey;
+
+	private final AtomicBoolean shutDown = new AtomicBoolean(false);
+
+	private final ProcessingMetrics metrics = new ProcessingMetrics();
+
+	private final ProcessingJobScheduler jobScheduler;
+
+	private final int filmstripMaxPendingJobs;
+
+	private final List<ProcessingMetricsListener> metricsListeners = new CopyOnWriteArrayList<ProcessingMetricsListener>();
+
+	private volatile ExecutorService executorService = null;
+
+	private ExecutorService defaultExecutorService = null;
 
 	/**
 	 * The constructor is {@code private} to have strict control what instances
@@ -56,7 +98,22 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 
 		coreService = javaClient.getCoreService();
 
-		initializeRestletClient();
+		urlBuilder = new ProcessingURLBuilder(serviceURL);
+
+		XMLConfiguration xmlConfiguration = ProcessingServiceID.INSTANCE.getXMLConfiguration();
+
+		resultURLCache = new ExpiringCache<String, URL>(xmlConfiguration.getInt("result-cache/max-size", 1024), xmlConfiguration.getLong("result-cache/time-to-live", 60000));
+
+		validationCache = new ExpiringCache<String, MediaMainType>(xmlConfiguration.getInt("validation/max-size", 4096), xmlConfiguration.getLong("validation/time-to-live", 300000), xmlConfiguration.getLong("validation/nonexistent-time-to-live", 5000));
+		validationMode = ValidationMode.valueOf(xmlConfiguration.getString("validation/mode", ValidationMode.CACHED.name()));
+
+		filmstripMaxPendingJobs = xmlConfiguration.getInt("filmstrip/max-pending-jobs", 8);
+
+		jobScheduler = new ProcessingJobScheduler(this, xmlConfiguration.getLong("async-jobs/initial-delay", 500), xmlConfiguration.getLong("async-jobs/max-delay", 10000), xmlConfiguration.getLong("async-jobs/timeout", 600000));
+
+		sharedRestletClient = SharedRestletClient.acquire();
+		restletClient = sharedRestletClient.getClient();
+		serviceHostKey = SharedRestletClient.getHostKey(serviceURL);
 	}
 
 	/**
@@ -92,9 +149,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument(documentID);
-
-		if(size < 16 || size > 256 || document == null)
+		if(size < 16 || size > 256 || !isValidResource(documentID, null))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -116,16 +171,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument((DocumentID) attachmentID.getRootID(), LoadType.SNAPSHOT, false);
-
-		if(document == null)
-		{
-			throw new IllegalArgumentException();
-		}
-
-		Attachment attachment = document.getAttachment(attachmentID);
-
-		if(size < 16 || size > 256 || attachment == null)
+		if(size < 16 || size > 256 || !isValidResource(attachmentID, null))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -147,20 +193,9 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 	 */
 	private URL getThumbnailURL(URL uniqueResourceURL, int size, boolean immediate)
 	{
-		String encodedUniqueResourceURLString = "";
-
-		try
-		{
-			encodedUniqueResourceURLString = URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8");
-		}
-		catch(UnsupportedEncodingException e)
-		{
-			e.printStackTrace();
-		}
-
-		String urlString = serviceURL.toExternalForm() + "/process/generic/thumbnail?item=" + encodedUniqueResourceURLString + "&async=false&size=" + size;
+		String urlString = urlBuilder.buildThumbnailURLString(uniqueResourceURL, size, false);
 
-		return getResultURL(urlString, immediate);
+		return getResultURL(Operation.THUMBNAIL, urlString, immediate);
 	}
 
 	@Override
@@ -177,9 +212,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument(documentID);
-
-		if(size <= 0 || document == null || !document.getMediaMainType().equals(MediaTypeFactory.getMediaMainType("image")))
+		if(size <= 0 || !isValidResource(documentID, "image"))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -201,16 +234,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument((DocumentID) attachmentID.getRootID(), LoadType.SNAPSHOT, false);
-
-		if(document == null)
-		{
-			throw new IllegalArgumentException();
-		}
-
-		Attachment attachment = document.getAttachment(attachmentID);
-
-		if(size <= 0 || attachment == null || !attachment.getMediaType().getMediaMainType().equals(MediaTypeFactory.getMediaMainType("image")))
+		if(size <= 0 || !isValidResource(attachmentID, "image"))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -234,22 +258,9 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 	 */
 	private URL getImageURL(URL uniqueResourceURL, int size, Fixed fixed, boolean immediate)
 	{
-		String encodedUniqueResourceURLString = "";
-
-		try
-		{
-			encodedUniqueResourceURLString = URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8");
-		}
-		catch(UnsupportedEncodingException e)
-		{
-			e.printStackTrace();
-		}
-
-		String resolution = getAPIResolutionString(size, fixed);
-
-		String urlString = serviceURL.toExternalForm() + "/process/image/resized?item=" + encodedUniqueResourceURLString + "&async=false&resolution=" + resolution;
+		String urlString = urlBuilder.buildImageURLString(uniqueResourceURL, size, fixed == Fixed.WIDTH, false);
 
-		return getResultURL(urlString, immediate);
+		return getResultURL(Operation.IMAGE, urlString, immediate);
 	}
 
 	@Override
@@ -266,9 +277,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument(documentID);
-
-		if(size <= 0 || time < 0.0f || time > 1.0f || document == null || !document.getMediaMainType().equals(MediaTypeFactory.getMediaMainType("video")))
+		if(size <= 0 || time < 0.0f || time > 1.0f || !isValidResource(documentID, "video"))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -290,16 +299,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 			throw new NullPointerException();
 		}
 
-		Document document = coreService.getDocument((DocumentID) attachmentID.getRootID(), LoadType.SNAPSHOT, false);
-
-		if(document == null)
-		{
-			throw new IllegalArgumentException();
-		}
-
-		Attachment attachment = document.getAttachment(attachmentID);
-
-		if(size <= 0 || time < 0.0f || time > 1.0f || attachment == null || !attachment.getMediaType().getMediaMainType().equals(MediaTypeFactory.getMediaMainType("video")))
+		if(size <= 0 || time < 0.0f || time > 1.0f || !isValidResource(attachmentID, "video"))
 		{
 			throw new IllegalArgumentException();
 		}
@@ -326,27 +326,300 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 	 */
 	private URL getVideoSnapshotURL(URL uniqueResourceURL, int size, Fixed fixed, float time, boolean immediate)
 	{
-		String encodedUniqueResourceURLString = "";
+		String urlString = urlBuilder.buildVideoSnapshotURLString(uniqueResourceURL, size, fixed == Fixed.WIDTH, time, false);
 
-		try
+		return getResultURL(Operation.VIDEO_SNAPSHOT, urlString, immediate);
+	}
+
+	@Override
+	public Future<URL> getThumbnailURLAsync(DocumentID documentID, int size)
+	{
+		return getThumbnailURLAsync(documentID, size, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getThumbnailURLAsync(final DocumentID documentID, final int size, long timeout, TimeUnit unit)
+	{
+		if(documentID == null)
 		{
-			encodedUniqueResourceURLString = URLEncoder.encode(uniqueResourceURL.toExternalForm(), "UTF-8");
+			throw new NullPointerException();
 		}
-		catch(UnsupportedEncodingException e)
+
+		return submit(new Callable<URL>()
 		{
-			e.printStackTrace();
+			@Override
+			public URL call() throws Exception
+			{
+				return getThumbnailURL(documentID, size, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<URL> getThumbnailURLAsync(AttachmentID attachmentID, int size)
+	{
+		return getThumbnailURLAsync(attachmentID, size, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getThumbnailURLAsync(final AttachmentID attachmentID, final int size, long timeout, TimeUnit unit)
+	{
+		if(attachmentID == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new Callable<URL>()
+		{
+			@Override
+			public URL call() throws Exception
+			{
+				return getThumbnailURL(attachmentID, size, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<URL> getImageURLAsync(DocumentID documentID, int size, Fixed fixed)
+	{
+		return getImageURLAsync(documentID, size, fixed, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getImageURLAsync(final DocumentID documentID, final int size, final Fixed fixed, long timeout, TimeUnit unit)
+	{
+		if(documentID == null || fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new Callable<URL>()
+		{
+			@Override
+			public URL call() throws Exception
+			{
+				return getImageURL(documentID, size, fixed, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<URL> getImageURLAsync(AttachmentID attachmentID, int size, Fixed fixed)
+	{
+		return getImageURLAsync(attachmentID, size, fixed, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getImageURLAsync(final AttachmentID attachmentID, final int size, final Fixed fixed, long timeout, TimeUnit unit)
+	{
+		if(attachmentID == null || fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new Callable<URL>()
+		{
+			@Override
+			public URL call() throws Exception
+			{
+				return getImageURL(attachmentID, size, fixed, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<URL> getVideoSnapshotURLAsync(DocumentID documentID, int size, Fixed fixed, float time)
+	{
+		return getVideoSnapshotURLAsync(documentID, size, fixed, time, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getVideoSnapshotURLAsync(final DocumentID documentID, final int size, final Fixed fixed, final float time, long timeout, TimeUnit unit)
+	{
+		if(documentID == null || fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new Callable<URL>()
+		{
+			@Override
+			public URL call() throws Exception
+			{
+				return getVideoSnapshotURL(documentID, size, fixed, time, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<URL> getVideoSnapshotURLAsync(AttachmentID attachmentID, int size, Fixed fixed, float time)
+	{
+		return getVideoSnapshotURLAsync(attachmentID, size, fixed, time, 0, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Future<URL> getVideoSnapshotURLAsync(final AttachmentID attachmentID, final int size, final Fixed fixed, final float time, long timeout, TimeUnit unit)
+	{
+		if(attachmentID == null || fixed == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new Callable<URL>()
+		{
+			@Override
+			public URL call() throws Exception
+			{
+				return getVideoSnapshotURL(attachmentID, size, fixed, time, false);
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public Future<ProcessingResult> getResultURLAsync(final ProcessingRequest request, long timeout, TimeUnit unit, final ProcessingResultListener listener)
+	{
+		if(request == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submit(new TimeoutFutureTask<ProcessingResult>(new Callable<ProcessingResult>()
+		{
+			@Override
+			public ProcessingResult call() throws Exception
+			{
+				return resolve(request);
+			}
+		})
+		{
+			@Override
+			protected void done()
+			{
+				super.done();
+
+				if(listener != null)
+				{
+					notifyListener(listener, getCompletedResult(request, this));
+				}
+			}
+		}, timeout, unit);
+	}
+
+	@Override
+	public void setExecutorService(ExecutorService executorService)
+	{
+		this.executorService = executorService;
+	}
+
+	@Override
+	public void shutdown()
+	{
+		if(!shutDown.compareAndSet(false, true))
+		{
+			return;
+		}
+
+		jobScheduler.shutdown();
+
+		synchronized(this)
+		{
+			if(defaultExecutorService != null)
+			{
+				defaultExecutorService.shutdown();
+			}
+		}
+
+		sharedRestletClient.release();
+	}
+
+	/**
+	 * Submits the given task to the {@link ExecutorService} of this
+	 * {@link ProcessingService}. If the {@code timeout} value is greater than
+	 * {@code 0}, the returned {@link Future} will be cancelled as soon as the
+	 * timeout has elapsed and the task has not been completed yet.
+	 * 
+	 * @param task The task to be executed
+	 * @param timeout The maximum execution time ({@code 0} for no timeout)
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The {@code Future} of the task
+	 */
+	private <T> Future<T> submit(Callable<T> task, long timeout, TimeUnit unit)
+	{
+		return submit(new TimeoutFutureTask<T>(task), timeout, unit);
+	}
+
+	/**
+	 * Executes the given {@link TimeoutFutureTask} with the
+	 * {@link ExecutorService} of this {@link ProcessingService}. If the
+	 * {@code timeout} value is greater than {@code 0}, the task will be
+	 * cancelled as soon as the timeout has elapsed and the task has not been
+	 * completed yet.
+	 * 
+	 * @param futureTask The {@code TimeoutFutureTask} to be executed
+	 * @param timeout The maximum execution time ({@code 0} for no timeout)
+	 * @param unit The {@code TimeUnit} of the {@code timeout} argument
+	 * @return The given {@code TimeoutFutureTask}
+	 */
+	private <T> Future<T> submit(TimeoutFutureTask<T> futureTask, long timeout, TimeUnit unit)
+	{
+		if(unit == null)
+		{
+			throw new NullPointerException();
+		}
+
+		getExecutorService().execute(futureTask);
+
+		if(timeout > 0 && !futureTask.isDone())
+		{
+			TimeoutTrigger timeoutTrigger = new TimeoutTrigger(futureTask);
+
+			futureTask.setTimeout(timeoutTrigger, timeoutScheduler.schedule(timeoutTrigger, timeout, unit));
+		}
+
+		return futureTask;
+	}
+
+	/**
+	 * Returns the {@link ExecutorService} for the asynchronous requests. If no
+	 * {@code ExecutorService} has been set, the default
+	 * {@code ExecutorService} will be created and returned. <br/><br/>
+	 * 
+	 * The default {@code ExecutorService} has at most as many threads as
+	 * concurrent requests are allowed by the {@link SharedRestletClient}, since
+	 * further threads would only wait for a request permit. Idle threads are
+	 * terminated after one minute.
+	 * 
+	 * @return The {@code ExecutorService}
+	 */
+	ExecutorService getExecutorService()
+	{
+		ExecutorService currentExecutorService = executorService;
+
+		if(currentExecutorService != null)
+		{
+			return currentExecutorService;
 		}
 
-		String resolution = getAPIResolutionString(size, fixed);
+		synchronized(this)
+		{
+			if(defaultExecutorService == null)
+			{
+				int poolSize = sharedRestletClient.getMaxParallelRequests();
 
-		String urlString = serviceURL.toExternalForm() + "/process/video/still?item=" + encodedUniqueResourceURLString + "&async=false&resolution=" + resolution + "&timecode=" + time;
+				ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), new DaemonThreadFactory("ProcessingService-Request"));
+				threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+				defaultExecutorService = threadPoolExecutor;
+			}
 
-		return getResultURL(urlString, immediate);
+			return defaultExecutorService;
+		}
 	}
 
 	/**
 	 * Returns the {@link URL} of the resource with the specified data.
 	 * 
+	 * @param operation The {@code Operation} of the request
 	 * @param urlString The {@code URL} ({@code String} representation) for the
 	 *        HTTP GET request
 	 * @param immediate {@code true} if a created {@code ProcessingService}
@@ -354,7 +627,7 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 	 *        real resource {@code URL} should be returned as soon as possible
 	 * @return The {@code URL} of the resource
 	 */
-	private URL getResultURL(String urlString, boolean immediate)
+	private URL getResultURL(Operation operation, String urlString, boolean immediate)
 	{
 		if(immediate)
 		{
@@ -371,88 +644,981 @@ public final class ProcessingServiceImpl extends AbstractService implements Proc
 		}
 		else
 		{
-			ClientResource clientResource = new ClientResource(urlString);
-
-			clientResource.setNext(restletClient);
-
 			try
 			{
-				clientResource.get();
-
-				System.out.println("[ProcessingService ProcessingServiceImpl] " + urlString);
-			}
-			catch(ResourceException e)
-			{
-				System.err.println("[ProcessingService ProcessingServiceImpl] " + e.getStatus().getCode());
-
-				return null;
-			}
-
-			if(clientResource.getResponse().getStatus().getCode() == 303)
-			{
-				return clientResource.getResponse().getLocationRef().toUrl();
+				return resolveResultURL(operation, urlString);
 			}
-			else
+			catch(ProcessingException e)
 			{
-				System.err.println("[ProcessingService ProcessingServiceImpl] " + clientResource.getResponse().getStatus().getCode());
-
 				return null;
 			}
 		}
 	}
 
 	/**
-	 * Returns the resolution {@code String} according to the API format.
+	 * Returns the real resource {@link URL} of the specified request. The
+	 * {@code URL} will be taken from the result cache if possible. Concurrent
+	 * requests with the same {@code urlString} share one single HTTP request.
 	 * 
-	 * @param size The width or the height of the resource in pixels
-	 * @param fixed {@code Fixed.WIDTH} if the {@code size} value specifies the
-	 *        width of the resource; {@code Fixed.HEIGHT} if the {@code size}
-	 *        value specifies the height of the resource
-	 * @return The API resolution {@code String}
+	 * @param operation The {@code Operation} of the request
+	 * @param urlString The {@code URL} ({@code String} representation) for the
+	 *        HTTP GET request
+	 * @return The real resource {@code URL} or {@code null} if the current
+	 *         thread has been interrupted while waiting for a shared request
+	 * @throws ProcessingException If the request failed
 	 */
-	private String getAPIResolutionString(int size, Fixed fixed)
+	private URL resolveResultURL(final Operation operation, final String urlString)
 	{
-		if(fixed == Fixed.WIDTH)
-		{
-			return size + "xY";
-		}
-		else
+		return resultURLCache.get(urlString, new Callable<URL>()
 		{
-			return "Xx" + size;
-		}
+			@Override
+			public URL call() throws Exception
+			{
+				return requestResultURL(operation, urlString);
+			}
+		});
 	}
 
 	/**
-	 * Initializes the <i>Restlet</i> {@link Client} of this
-	 * {@link ProcessingService}.
+	 * Executes the HTTP GET request and returns the real resource {@link URL}
+	 * from the {@code Location} header of the {@code 303 See Other} response.
+	 * The request waits for the request permits of the service host and of
+	 * the connection pool (see {@link SharedRestletClient}), so it never
+	 * queues on the connection pool.
+	 * It is recorded by the {@link ProcessingMetrics} and reported to the
+	 * registered {@link ProcessingMetricsListener}s.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 * @param urlString The {@code URL} ({@code String} representation) for the
+	 *        HTTP GET request
+	 * @return The real resource {@code URL}
+	 * @throws ProcessingException If the request failed
 	 */
-	private void initializeRestletClient()
+	private URL requestResultURL(Operation operation, String urlString)
 	{
-		XMLConfiguration xmlConfiguration = ProcessingServiceID.INSTANCE.getXMLConfiguration();
-
-		Context restletContext = new Context();
+		ClientResource clientResource = new ClientResource(urlString);
 
-		String[] names = xmlConfiguration.getStringArray("restlet-client/connector-parameters/parameter/@name");
-		String[] values = xmlConfiguration.getStringArray("restlet-client/connector-parameters/parameter/@value");
+		clientResource.setNext(restletClient);
 
-		for(int i = 0; i < names.length; i++)
+		try
+		{
+			sharedRestletClient.acquireRequestPermit(serviceHostKey);
+		}
+		catch(InterruptedException e)
 		{
-			restletContext.getParameters().add(names[i], values[i]);
+			Thread.currentThread().interrupt();
+
+			throw new ProcessingException(urlString);
 		}
 
-		restletClient = new Client(restletContext, Protocol.valueOf(xmlConfiguration.getString("restlet-client/connector-protocol")));
+		fireRequestStarted(operation);
 
-		List<ConverterHelper> converters = Engine.getInstance().getRegisteredConverters();
-		converters.clear();
-		converters.add(new JacksonConverter());
+		long startTime = System.nanoTime();
+		int statusCode = ProcessingResult.NO_STATUS_CODE;
 
 		try
 		{
-			restletClient.start();
+			clientResource.get();
+
+			statusCode = clientResource.getResponse().getStatus().getCode();
 		}
-		catch(Exception e)
+		catch(ResourceException e)
 		{
-			e.printStackTrace();
+			statusCode = e.getStatus().getCode();
+
+			throw new ProcessingException(statusCode, urlString);
+		}
+		finally
+		{
+			sharedRestletClient.releaseRequestPermit(serviceHostKey);
+
+			fireRequestCompleted(operation, statusCode, System.nanoTime() - startTime);
+		}
+
+		if(statusCode == 303)
+		{
+			return clientResource.getResponse().getLocationRef().toUrl();
+		}
+		else
+		{
+			throw new ProcessingException(statusCode, urlString);
+		}
+	}
+
+	@Override
+	public ProcessingMetrics getMetrics()
+	{
+		return metrics;
+	}
+
+	@Override
+	public void addMetricsListener(ProcessingMetricsListener listener)
+	{
+		if(listener == null)
+		{
+			throw new NullPointerException();
+		}
+
+		metricsListeners.add(listener);
+	}
+
+	@Override
+	public void removeMetricsListener(ProcessingMetricsListener listener)
+	{
+		metricsListeners.remove(listener);
+	}
+
+	/**
+	 * Notifies the {@link ProcessingMetrics} and the registered
+	 * {@link ProcessingMetricsListener}s that a request has been started.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 */
+	private void fireRequestStarted(Operation operation)
+	{
+		metrics.recordRequestStarted(operation);
+
+		for(ProcessingMetricsListener listener : metricsListeners)
+		{
+			try
+			{
+				listener.requestStarted(operation);
+			}
+			catch(RuntimeException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Notifies the {@link ProcessingMetrics} and the registered
+	 * {@link ProcessingMetricsListener}s that a request has been completed.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 * @param statusCode The status code of the response
+	 * @param durationNanos The duration of the request in nanoseconds
+	 */
+	private void fireRequestCompleted(Operation operation, int statusCode, long durationNanos)
+	{
+		metrics.recordRequestCompleted(operation, statusCode, durationNanos);
+
+		for(ProcessingMetricsListener listener : metricsListeners)
+		{
+			try
+			{
+				listener.requestCompleted(operation, statusCode, durationNanos);
+			}
+			catch(RuntimeException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Notifies the {@link ProcessingMetrics} and the registered
+	 * {@link ProcessingMetricsListener}s that a validation lookup has been
+	 * completed.
+	 * 
+	 * @param durationNanos The duration of the lookup in nanoseconds
+	 */
+	private void fireValidationLookupCompleted(long durationNanos)
+	{
+		metrics.recordValidationLookup(durationNanos);
+
+		for(ProcessingMetricsListener listener : metricsListeners)
+		{
+			try
+			{
+				listener.validationLookupCompleted(durationNanos);
+			}
+			catch(RuntimeException e)
+			{
+				e.printStackTrace();
+			}
+		}
+	}
+
+	@Override
+	public List<ProcessingResult> getResultURLs(Collection<ProcessingRequest> requests)
+	{
+		Future<List<ProcessingResult>> batchResolution = getResultURLs(requests, null);
+
+		try
+		{
+			return batchResolution.get();
+		}
+		catch(InterruptedException e)
+		{
+			batchResolution.cancel(true);
+
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException(e);
+		}
+		catch(ExecutionException e)
+		{
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@Override
+	public Future<List<ProcessingResult>> getResultURLs(Collection<ProcessingRequest> requests, ProcessingResultListener listener)
+	{
+		if(requests == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return startBatchResolution(new ArrayList<ProcessingRequest>(requests), listener);
+	}
+
+	@Override
+	public Future<List<ProcessingResult>> getFilmstripURLs(DocumentID documentID, int size, Fixed fixed, int count, ProcessingResultListener listener)
+	{
+		return getFilmstripURLs(documentID, size, fixed, getEvenlySpacedTimes(count), listener);
+	}
+
+	@Override
+	public Future<List<ProcessingResult>> getFilmstripURLs(DocumentID documentID, int size, Fixed fixed, float[] times, ProcessingResultListener listener)
+	{
+		if(documentID == null || fixed == null || times == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(size <= 0 || !isValidTimes(times) || !isValidResource(documentID, "video"))
+		{
+			throw new IllegalArgumentException();
+		}
+
+		List<ProcessingRequest> requests = new ArrayList<ProcessingRequest>(times.length);
+
+		for(float time : times)
+		{
+			requests.add(ProcessingRequest.videoSnapshot(documentID, size, fixed, time));
+		}
+
+		return startFilmstripResolution(requests, listener);
+	}
+
+	@Override
+	public Future<List<ProcessingResult>> getFilmstripURLs(AttachmentID attachmentID, int size, Fixed fixed, int count, ProcessingResultListener listener)
+	{
+		return getFilmstripURLs(attachmentID, size, fixed, getEvenlySpacedTimes(count), listener);
+	}
+
+	@Override
+	public Future<List<ProcessingResult>> getFilmstripURLs(AttachmentID attachmentID, int size, Fixed fixed, float[] times, ProcessingResultListener listener)
+	{
+		if(attachmentID == null || fixed == null || times == null)
+		{
+			throw new NullPointerException();
+		}
+
+		if(size <= 0 || !isValidTimes(times) || !isValidResource(attachmentID, "video"))
+		{
+			throw new IllegalArgumentException();
+		}
+
+		List<ProcessingRequest> requests = new ArrayList<ProcessingRequest>(times.length);
+
+		for(float time : times)
+		{
+			requests.add(ProcessingRequest.videoSnapshot(attachmentID, size, fixed, time));
+		}
+
+		return startFilmstripResolution(requests, listener);
+	}
+
+	/**
+	 * Returns the given number of evenly spaced times of extraction. Every
+	 * time lies in the middle of one of {@code count} equal sections of the
+	 * video.
+	 * 
+	 * @param count The number of times ({@code count >= 1})
+	 * @return The times of extraction
+	 */
+	private float[] getEvenlySpacedTimes(int count)
+	{
+		if(count < 1)
+		{
+			throw new IllegalArgumentException();
+		}
+
+		float[] times = new float[count];
+
+		for(int i = 0; i < count; i++)
+		{
+			times[i] = (2 * i + 1) / (2.0f * count);
+		}
+
+		return times;
+	}
+
+	/**
+	 * Checks whether the given times of extraction are valid.
+	 * 
+	 * @param times The times of extraction
+	 * @return {@code true} if there is at least one time and all times are
+	 *         valid ({@code 0 <= time <= 1}); otherwise {@code false}
+	 */
+	private boolean isValidTimes(float[] times)
+	{
+		if(times.length == 0)
+		{
+			return false;
+		}
+
+		for(float time : times)
+		{
+			if(time < 0.0f || time > 1.0f)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Starts a {@link BatchResolution} of the given {@link ProcessingRequest}s.
+	 * The number of concurrent requests is limited by the connection pool of
+	 * the <i>Restlet</i> client.
+	 * 
+	 * @param requests The {@code ProcessingRequest}s
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code BatchResolution}
+	 */
+	private BatchResolution startBatchResolution(List<ProcessingRequest> requests, ProcessingResultListener listener)
+	{
+		BatchResolution batchResolution = new BatchResolution(this, requests, listener);
+
+		batchResolution.start(getExecutorService(), sharedRestletClient.getMaxParallelRequests());
+
+		return batchResolution;
+	}
+
+	/**
+	 * Starts a {@link FilmstripResolution} of the given validated
+	 * {@link ProcessingRequest}s. The snapshots are resolved as asynchronous
+	 * jobs, and the number of pending jobs of the filmstrip is limited by the
+	 * XML configuration file.
+	 * 
+	 * @param requests The validated {@code ProcessingRequest}s
+	 * @param listener A {@code ProcessingResultListener} or {@code null}
+	 * @return The {@code FilmstripResolution}
+	 */
+	private FilmstripResolution startFilmstripResolution(List<ProcessingRequest> requests, ProcessingResultListener listener)
+	{
+		FilmstripResolution filmstripResolution = new FilmstripResolution(this, requests, listener);
+
+		filmstripResolution.start(filmstripMaxPendingJobs);
+
+		return filmstripResolution;
+	}
+
+	/**
+	 * Returns the {@link ProcessingResult} of the given completed
+	 * {@link Future}. If the {@code Future} has been cancelled, the returned
+	 * {@code ProcessingResult} contains a {@link CancellationException}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param future The completed {@code Future}
+	 * @return The {@code ProcessingResult}
+	 */
+	private static ProcessingResult getCompletedResult(ProcessingRequest request, Future<ProcessingResult> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch(CancellationException e)
+		{
+			return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, e);
+		}
+		catch(InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+
+			return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, new CancellationException());
+		}
+		catch(ExecutionException e)
+		{
+			return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, new IllegalStateException(e.getCause()));
+		}
+	}
+
+	/**
+	 * Notifies the given {@link ProcessingResultListener} about the
+	 * {@link ProcessingResult} of a single request. Exceptions of the listener
+	 * are caught, so they do not affect the request.
+	 * 
+	 * @param listener The {@code ProcessingResultListener}
+	 * @param result The {@code ProcessingResult}
+	 */
+	private static void notifyListener(ProcessingResultListener listener, ProcessingResult result)
+	{
+		try
+		{
+			listener.resultAvailable(0, result);
+		}
+		catch(RuntimeException e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Validates and resolves the given {@link ProcessingRequest}. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> This method never throws an exception because of
+	 * invalid arguments or failed requests. Instead the failure is reported by
+	 * the returned {@link ProcessingResult}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @return The {@code ProcessingResult}
+	 */
+	ProcessingResult resolve(ProcessingRequest request)
+	{
+		try
+		{
+			validateRequest(request);
+
+			String urlString = buildRequestURLString(request, false);
+
+			URL resultURL = resolveResultURL(request.getOperation(), urlString);
+
+			if(resultURL == null)
+			{
+				throw new ProcessingException(urlString);
+			}
+
+			return new ProcessingResult(request, resultURL, 303, null);
+		}
+		catch(ProcessingException e)
+		{
+			return new ProcessingResult(request, null, e.getStatusCode(), e);
+		}
+		catch(RuntimeException e)
+		{
+			return new ProcessingResult(request, null, ProcessingResult.NO_STATUS_CODE, e);
+		}
+	}
+
+	/**
+	 * Validates the given {@link ProcessingRequest} like the corresponding
+	 * public method.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @throws IllegalArgumentException If the request is invalid
+	 */
+	private void validateRequest(ProcessingRequest request)
+	{
+		int size = request.getSize();
+		boolean valid;
+
+		switch(request.getOperation())
+		{
+			case THUMBNAIL:
+				valid = size >= 16 && size <= 256 && isValidResource(request, null);
+				break;
+			case IMAGE:
+				valid = size > 0 && isValidResource(request, "image");
+				break;
+			default:
+				valid = size > 0 && request.getTime() >= 0.0f && request.getTime() <= 1.0f && isValidResource(request, "video");
+				break;
+		}
+
+		if(!valid)
+		{
+			throw new IllegalArgumentException();
+		}
+	}
+
+	/**
+	 * Returns the request {@code URL} ({@code String} representation) of the
+	 * given {@link ProcessingRequest}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param async {@code true} if the {@code Processing API} should answer
+	 *        immediately while the resource is being processed; otherwise
+	 *        {@code false}
+	 * @return The request {@code URL} ({@code String} representation)
+	 */
+	private String buildRequestURLString(ProcessingRequest request, boolean async)
+	{
+		URL uniqueResourceURL;
+
+		if(request.getDocumentID() != null)
+		{
+			uniqueResourceURL = request.getDocumentID().getUniqueResourceURL();
+		}
+		else
+		{
+			uniqueResourceURL = request.getAttachmentID().getUniqueResourceURL();
+		}
+
+		switch(request.getOperation())
+		{
+			case THUMBNAIL:
+				return urlBuilder.buildThumbnailURLString(uniqueResourceURL, request.getSize(), async);
+			case IMAGE:
+				return urlBuilder.buildImageURLString(uniqueResourceURL, request.getSize(), request.getFixed() == Fixed.WIDTH, async);
+			default:
+				return urlBuilder.buildVideoSnapshotURLString(uniqueResourceURL, request.getSize(), request.getFixed() == Fixed.WIDTH, request.getTime(), async);
+		}
+	}
+
+	@Override
+	public Future<URL> submitJob(ProcessingRequest request)
+	{
+		if(request == null)
+		{
+			throw new NullPointerException();
+		}
+
+		return submitJob(request, true, null);
+	}
+
+	/**
+	 * Submits the given {@link ProcessingRequest} as an asynchronous job of the
+	 * {@code Processing API}. The validation and the first lookup of the
+	 * result cache are executed by the {@link ExecutorService}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param validate {@code true} if the request should be validated like in
+	 *        the corresponding public method; {@code false} if it has already
+	 *        been validated
+	 * @param listener A {@code ProcessingResultListener} which is notified as
+	 *        soon as the job has been completed or {@code null}
+	 * @return The {@code ProcessingJob}
+	 */
+	ProcessingJob submitJob(final ProcessingRequest request, final boolean validate, ProcessingResultListener listener)
+	{
+		final ProcessingJob job = jobScheduler.createJob(request, listener);
+
+		Runnable submission = new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				if(job.isDone())
+				{
+					return;
+				}
+
+				try
+				{
+					if(validate)
+					{
+						validateRequest(request);
+					}
+
+					String cacheKey = buildRequestURLString(request, false);
+					URL cachedURL = resultURLCache.getIfPresent(cacheKey);
+
+					if(cachedURL != null)
+					{
+						job.complete(cachedURL);
+					}
+					else
+					{
+						jobScheduler.schedule(job, buildRequestURLString(request, true), cacheKey);
+					}
+				}
+				catch(RuntimeException e)
+				{
+					job.fail(e);
+				}
+			}
+		};
+
+		try
+		{
+			getExecutorService().execute(submission);
+		}
+		catch(RejectedExecutionException e)
+		{
+			job.fail(e);
+		}
+
+		return job;
+	}
+
+	/**
+	 * Executes a single poll of a job of the {@link ProcessingJobScheduler}.
+	 * If the resource has been processed, the real resource {@link URL} will
+	 * be stored in the result cache.
+	 * 
+	 * @param operation The {@code Operation} of the request
+	 * @param urlString The request {@code URL} ({@code String}
+	 *        representation) with {@code async=true}
+	 * @param cacheKey The key of the result cache
+	 * @return The real resource {@code URL}
+	 * @throws ProcessingException If the request failed or the resource is
+	 *         still being processed ({@code 202 Accepted})
+	 */
+	URL pollResultURL(Operation operation, String urlString, String cacheKey)
+	{
+		URL resultURL = requestResultURL(operation, urlString);
+
+		resultURLCache.put(cacheKey, resultURL);
+
+		return resultURL;
+	}
+
+	@Override
+	public CacheStatistics getResultURLCacheStatistics()
+	{
+		return resultURLCache.getStatistics();
+	}
+
+	@Override
+	public void setValidationMode(ValidationMode validationMode)
+	{
+		if(validationMode == null)
+		{
+			throw new NullPointerException();
+		}
+
+		this.validationMode = validationMode;
+	}
+
+	@Override
+	public CacheStatistics getValidationCacheStatistics()
+	{
+		return validationCache.getStatistics();
+	}
+
+	/**
+	 * Checks whether the specified {@link Document} exists and (optionally)
+	 * whether it has the specified media main type. The check depends on the
+	 * current {@link ValidationMode}.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @param mediaMainType The required media main type (e.g. {@code "image"})
+	 *        or {@code null} if every media main type is allowed
+	 * @return {@code true} if the {@code Document} is valid; otherwise
+	 *         {@code false}
+	 */
+	private boolean isValidResource(final DocumentID documentID, String mediaMainType)
+	{
+		switch(validationMode)
+		{
+			case LOCAL:
+				return true;
+			case CACHED:
+				String cacheKey = urlBuilder.getUniqueResourceURLString(documentID.getUniqueResourceURL());
+				MediaMainType actualMediaMainType = validationCache.getIfPresent(cacheKey);
+
+				if(actualMediaMainType == null)
+				{
+					actualMediaMainType = validationCache.get(cacheKey, new Callable<MediaMainType>()
+					{
+						@Override
+						public MediaMainType call() throws Exception
+						{
+							return loadMediaMainType(documentID);
+						}
+					});
+				}
+
+				return isValidMediaMainType(actualMediaMainType, mediaMainType);
+			default:
+				return isValidMediaMainType(loadMediaMainType(documentID), mediaMainType);
+		}
+	}
+
+	/**
+	 * Checks whether the specified {@link Attachment} exists and (optionally)
+	 * whether it has the specified media main type. The check depends on the
+	 * current {@link ValidationMode}.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @param mediaMainType The required media main type (e.g. {@code "image"})
+	 *        or {@code null} if every media main type is allowed
+	 * @return {@code true} if the {@code Attachment} is valid; otherwise
+	 *         {@code false}
+	 */
+	private boolean isValidResource(final AttachmentID attachmentID, String mediaMainType)
+	{
+		switch(validationMode)
+		{
+			case LOCAL:
+				return true;
+			case CACHED:
+				String cacheKey = urlBuilder.getUniqueResourceURLString(attachmentID.getUniqueResourceURL());
+				MediaMainType actualMediaMainType = validationCache.getIfPresent(cacheKey);
+
+				if(actualMediaMainType == null)
+				{
+					actualMediaMainType = validationCache.get(cacheKey, new Callable<MediaMainType>()
+					{
+						@Override
+						public MediaMainType call() throws Exception
+						{
+							return loadMediaMainType(attachmentID);
+						}
+					});
+				}
+
+				return isValidMediaMainType(actualMediaMainType, mediaMainType);
+			default:
+				return isValidMediaMainType(loadMediaMainType(attachmentID), mediaMainType);
+		}
+	}
+
+	/**
+	 * Checks whether the resource of the given {@link ProcessingRequest} is
+	 * valid. The check depends on the current {@link ValidationMode}.
+	 * 
+	 * @param request The {@code ProcessingRequest}
+	 * @param mediaMainType The required media main type (e.g. {@code "image"})
+	 *        or {@code null} if every media main type is allowed
+	 * @return {@code true} if the resource is valid; otherwise {@code false}
+	 */
+	private boolean isValidResource(ProcessingRequest request, String mediaMainType)
+	{
+		if(request.getDocumentID() != null)
+		{
+			return isValidResource(request.getDocumentID(), mediaMainType);
+		}
+		else
+		{
+			return isValidResource(request.getAttachmentID(), mediaMainType);
+		}
+	}
+
+	/**
+	 * Checks whether the given {@link MediaMainType} of an existing resource
+	 * matches the required media main type.
+	 * 
+	 * @param actualMediaMainType The {@code MediaMainType} of the resource or
+	 *        {@code null} if the resource does not exist
+	 * @param mediaMainType The required media main type or {@code null} if
+	 *        every media main type is allowed
+	 * @return {@code true} if the resource exists and the media main type
+	 *         matches; otherwise {@code false}
+	 */
+	private boolean isValidMediaMainType(MediaMainType actualMediaMainType, String mediaMainType)
+	{
+		if(actualMediaMainType == null)
+		{
+			return false;
+		}
+
+		return mediaMainType == null || actualMediaMainType.equals(MediaTypeFactory.getMediaMainType(mediaMainType));
+	}
+
+	/**
+	 * Loads the {@link MediaMainType} of the specified {@link Document} from
+	 * the {@link CoreService}.
+	 * 
+	 * @param documentID A {@code DocumentID}
+	 * @return The {@code MediaMainType} or {@code null} if the
+	 *         {@code Document} does not exist
+	 */
+	private MediaMainType loadMediaMainType(DocumentID documentID)
+	{
+		long startTime = System.nanoTime();
+
+		try
+		{
+			Document document = coreService.getDocument(documentID);
+
+			if(document == null)
+			{
+				return null;
+			}
+
+			return document.getMediaMainType();
+		}
+		finally
+		{
+			fireValidationLookupCompleted(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Loads the {@link MediaMainType} of the specified {@link Attachment} from
+	 * the {@link CoreService}.
+	 * 
+	 * @param attachmentID An {@code AttachmentID}
+	 * @return The {@code MediaMainType} or {@code null} if the
+	 *         {@code Attachment} does not exist
+	 */
+	private MediaMainType loadMediaMainType(AttachmentID attachmentID)
+	{
+		long startTime = System.nanoTime();
+
+		try
+		{
+			Document document = coreService.getDocument((DocumentID) attachmentID.getRootID(), LoadType.SNAPSHOT, false);
+
+			if(document == null)
+			{
+				return null;
+			}
+
+			Attachment attachment = document.getAttachment(attachmentID);
+
+			if(attachment == null)
+			{
+				return null;
+			}
+
+			return attachment.getMediaType().getMediaMainType();
+		}
+		finally
+		{
+			fireValidationLookupCompleted(System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * This class is a {@link FutureTask} whose timeout is released as soon as
+	 * the task has been completed, so completed tasks are not kept until their
+	 * timeout has elapsed.
+	 * 
+	 * @param <T> The type of the result
+	 */
+	private static class TimeoutFutureTask<T> extends FutureTask<T>
+	{
+		private volatile TimeoutTrigger timeoutTrigger = null;
+
+		private volatile ScheduledFuture<?> timeoutFuture = null;
+
+		/**
+		 * Constructs a {@link TimeoutFutureTask}.
+		 * 
+		 * @param callable The task to be executed
+		 */
+		TimeoutFutureTask(Callable<T> callable)
+		{
+			super(callable);
+		}
+
+		/**
+		 * Sets the timeout of this {@link TimeoutFutureTask}. If the task has
+		 * already been completed, the timeout will be released immediately.
+		 * 
+		 * @param timeoutTrigger The {@code TimeoutTrigger} of the task
+		 * @param timeoutFuture The {@code ScheduledFuture} of the
+		 *        {@code TimeoutTrigger}
+		 */
+		void setTimeout(TimeoutTrigger timeoutTrigger, ScheduledFuture<?> timeoutFuture)
+		{
+			this.timeoutTrigger = timeoutTrigger;
+			this.timeoutFuture = timeoutFuture;
+
+			if(isDone())
+			{
+				releaseTimeout();
+			}
+		}
+
+		@Override
+		protected void done()
+		{
+			releaseTimeout();
+		}
+
+		/**
+		 * Cancels the scheduled timeout and clears the reference of the
+		 * {@link TimeoutTrigger} to this {@link TimeoutFutureTask}.
+		 */
+		private void releaseTimeout()
+		{
+			TimeoutTrigger currentTimeoutTrigger = timeoutTrigger;
+			ScheduledFuture<?> currentTimeoutFuture = timeoutFuture;
+
+			if(currentTimeoutTrigger != null)
+			{
+				currentTimeoutTrigger.clear();
+			}
+
+			if(currentTimeoutFuture != null)
+			{
+				currentTimeoutFuture.cancel(false);
+			}
+		}
+	}
+
+	/**
+	 * This class cancels a {@link Future} when its timeout has elapsed. <br/><br/>
+	 * 
+	 * <i>Annotation:</i> Depending on the runtime, a cancelled timeout stays in
+	 * the queue of the scheduler until its delay has elapsed. Since the
+	 * reference to the {@code Future} is cleared on completion, only this small
+	 * object is kept in this case, but not the completed {@code Future} and
+	 * its result.
+	 */
+	private static final class TimeoutTrigger implements Runnable
+	{
+		private volatile Future<?> future;
+
+		/**
+		 * Constructs a {@link TimeoutTrigger}.
+		 * 
+		 * @param future The {@code Future} to be cancelled
+		 */
+		TimeoutTrigger(Future<?> future)
+		{
+			this.future = future;
+		}
+
+		@Override
+		public void run()
+		{
+			Future<?> currentFuture = future;
+
+			if(currentFuture != null)
+			{
+				currentFuture.cancel(true);
+			}
+		}
+
+		/**
+		 * Clears the reference to the {@link Future}.
+		 */
+		void clear()
+		{
+			future = null;
+		}
+	}
+
+	/**
+	 * This class is a {@link ThreadFactory} which creates named daemon threads,
+	 * so that pending asynchronous requests do not prevent the JVM from
+	 * shutting down.
+	 */
+	static final class DaemonThreadFactory implements ThreadFactory
+	{
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		private final String namePrefix;
+
+		/**
+		 * Constructs a {@link DaemonThreadFactory}.
+		 * 
+		 * @param namePrefix The prefix of the thread names
+		 */
+		DaemonThreadFactory(String namePrefix)
+		{
+			this.namePrefix = namePrefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable)
+		{
+			Thread thread = new Thread(runnable, namePrefix + "-" + threadNumber.getAndIncrement());
+
+			thread.setDaemon(true);
+
+			return thread;
 		}
 	}
 }
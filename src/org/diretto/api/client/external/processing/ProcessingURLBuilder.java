@@ -0,0 +1,283 @@
+package org.diretto.api.client.external.processing;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * This class creates the request {@code URL}s ({@code String} representation)
+ * of the {@code Processing API} for a specific service {@link URL}. <br/><br/>
+ * 
+ * The prefixes of the endpoints are created once, the encoded unique resource
+ * {@code URL}s are kept in two small caches and the {@code String}s are built
+ * with a reused {@link StringBuilder} per thread. So if the unique resource
+ * {@code URL} object is reused, only the resulting {@code String} is
+ * allocated.
+ */
+final class ProcessingURLBuilder
+{
+	private static final int ENCODED_URL_CACHE_SIZE = 1024;
+
+	private static final ThreadLocal<StringBuilder> stringBuilder = new ThreadLocal<StringBuilder>()
+	{
+		@Override
+		protected StringBuilder initialValue()
+		{
+			return new StringBuilder(256);
+		}
+	};
+
+	private final String thumbnailPrefix;
+
+	private final String imagePrefix;
+
+	private final String videoSnapshotPrefix;
+
+	private final EncodedURL[] encodedURLCache = new EncodedURL[ENCODED_URL_CACHE_SIZE];
+
+	private final ConcurrentMap<String, String> encodedURLStrings = new ConcurrentHashMap<String, String>();
+
+	/**
+	 * Constructs a {@link ProcessingURLBuilder}.
+	 * 
+	 * @param serviceURL The service {@code URL}
+	 */
+	ProcessingURLBuilder(URL serviceURL)
+	{
+		String serviceURLString = serviceURL.toExternalForm();
+
+		thumbnailPrefix = serviceURLString + "/process/generic/thumbnail?item=";
+		imagePrefix = serviceURLString + "/process/image/resized?item=";
+		videoSnapshotPrefix = serviceURLString + "/process/video/still?item=";
+	}
+
+	/**
+	 * Returns the request {@code URL} ({@code String} representation) of the
+	 * thumbnail with the specified data.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL} of a
+	 *        {@code DocumentID} or of an {@code AttachmentID}
+	 * @param size The size of the (quadratic) thumbnail in pixels
+	 * @param async {@code true} if the {@code Processing API} should answer
+	 *        immediately while the resource is being processed; otherwise
+	 *        {@code false}
+	 * @return The request {@code URL} ({@code String} representation)
+	 */
+	String buildThumbnailURLString(URL uniqueResourceURL, int size, boolean async)
+	{
+		StringBuilder builder = getStringBuilder();
+
+		builder.append(thumbnailPrefix).append(getEncodedURLString(uniqueResourceURL)).append(async ? "&async=true" : "&async=false").append("&size=").append(size);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the request {@code URL} ({@code String} representation) of the
+	 * image with the specified data.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL} of a
+	 *        {@code DocumentID} or of an {@code AttachmentID}
+	 * @param size The width or the height of the image in pixels
+	 * @param fixedWidth {@code true} if the {@code size} value specifies the
+	 *        width of the image ({@code Fixed.WIDTH}); {@code false} if it
+	 *        specifies the height of the image ({@code Fixed.HEIGHT})
+	 * @param async {@code true} if the {@code Processing API} should answer
+	 *        immediately while the resource is being processed; otherwise
+	 *        {@code false}
+	 * @return The request {@code URL} ({@code String} representation)
+	 */
+	String buildImageURLString(URL uniqueResourceURL, int size, boolean fixedWidth, boolean async)
+	{
+		StringBuilder builder = getStringBuilder();
+
+		builder.append(imagePrefix).append(getEncodedURLString(uniqueResourceURL)).append(async ? "&async=true" : "&async=false").append("&resolution=");
+		appendAPIResolution(builder, size, fixedWidth);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Returns the request {@code URL} ({@code String} representation) of the
+	 * video snapshot with the specified data.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL} of a
+	 *        {@code DocumentID} or of an {@code AttachmentID}
+	 * @param size The width or the height of the snapshot in pixels
+	 * @param fixedWidth {@code true} if the {@code size} value specifies the
+	 *        width of the snapshot ({@code Fixed.WIDTH}); {@code false} if it
+	 *        specifies the height of the snapshot ({@code Fixed.HEIGHT})
+	 * @param time The time of extraction of the snapshot
+	 * @param async {@code true} if the {@code Processing API} should answer
+	 *        immediately while the resource is being processed; otherwise
+	 *        {@code false}
+	 * @return The request {@code URL} ({@code String} representation)
+	 */
+	String buildVideoSnapshotURLString(URL uniqueResourceURL, int size, boolean fixedWidth, float time, boolean async)
+	{
+		StringBuilder builder = getStringBuilder();
+
+		builder.append(videoSnapshotPrefix).append(getEncodedURLString(uniqueResourceURL)).append(async ? "&async=true" : "&async=false").append("&resolution=");
+		appendAPIResolution(builder, size, fixedWidth);
+		builder.append("&timecode=").append(time);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Appends the resolution according to the API format.
+	 * 
+	 * @param builder The {@code StringBuilder}
+	 * @param size The width or the height of the resource in pixels
+	 * @param fixedWidth {@code true} if the {@code size} value specifies the
+	 *        width of the resource; {@code false} if the {@code size} value
+	 *        specifies the height of the resource
+	 */
+	private static void appendAPIResolution(StringBuilder builder, int size, boolean fixedWidth)
+	{
+		if(fixedWidth)
+		{
+			builder.append(size).append("xY");
+		}
+		else
+		{
+			builder.append("Xx").append(size);
+		}
+	}
+
+	/**
+	 * Returns the cleared {@link StringBuilder} of the current thread.
+	 * 
+	 * @return The {@code StringBuilder}
+	 */
+	private static StringBuilder getStringBuilder()
+	{
+		StringBuilder builder = stringBuilder.get();
+
+		builder.setLength(0);
+
+		return builder;
+	}
+
+	/**
+	 * Returns the {@code String} representation of the given unique resource
+	 * {@link URL}, which is taken from the cache of the encoded {@code URL}s
+	 * if possible.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL}
+	 * @return The {@code String} representation
+	 */
+	String getUniqueResourceURLString(URL uniqueResourceURL)
+	{
+		return getEncodedURL(uniqueResourceURL).urlString;
+	}
+
+	/**
+	 * Returns the encoded {@code String} representation of the given unique
+	 * resource {@link URL}.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL}
+	 * @return The encoded {@code String} representation
+	 */
+	private String getEncodedURLString(URL uniqueResourceURL)
+	{
+		return getEncodedURL(uniqueResourceURL).encodedURLString;
+	}
+
+	/**
+	 * Returns the {@link EncodedURL} of the given unique resource {@link URL}.
+	 * <br/><br/>
+	 * 
+	 * <i>Annotation:</i> The cache is looked up by the identity of the
+	 * {@code URL} object first, since {@link URL#equals(Object)} and
+	 * {@link URL#hashCode()} may resolve the host name. This lookup does not
+	 * allocate anything, but it only hits if the ID returns the same
+	 * {@code URL} object on every call. Otherwise the encoded {@code String}
+	 * is looked up by the {@code String} representation of the {@code URL}, so
+	 * only this {@code String} is allocated, but the {@code URL} is not encoded
+	 * again.
+	 * 
+	 * @param uniqueResourceURL A unique resource {@code URL}
+	 * @return The {@code EncodedURL}
+	 */
+	private EncodedURL getEncodedURL(URL uniqueResourceURL)
+	{
+		int index = (System.identityHashCode(uniqueResourceURL) & 0x7fffffff) % ENCODED_URL_CACHE_SIZE;
+
+		EncodedURL encodedURL = encodedURLCache[index];
+
+		if(encodedURL != null && encodedURL.url == uniqueResourceURL)
+		{
+			return encodedURL;
+		}
+
+		String urlString = uniqueResourceURL.toExternalForm();
+		String encodedURLString = encodedURLStrings.get(urlString);
+
+		if(encodedURLString == null)
+		{
+			encodedURLString = encode(urlString);
+
+			if(encodedURLStrings.size() >= ENCODED_URL_CACHE_SIZE)
+			{
+				encodedURLStrings.clear();
+			}
+
+			encodedURLStrings.put(urlString, encodedURLString);
+		}
+
+		encodedURL = new EncodedURL(uniqueResourceURL, urlString, encodedURLString);
+		encodedURLCache[index] = encodedURL;
+
+		return encodedURL;
+	}
+
+	/**
+	 * Encodes the given {@code String} representation of a {@code URL}.
+	 * 
+	 * @param urlString The {@code String} representation of a {@code URL}
+	 * @return The encoded {@code String}
+	 */
+	private static String encode(String urlString)
+	{
+		try
+		{
+			return URLEncoder.encode(urlString, "UTF-8");
+		}
+		catch(UnsupportedEncodingException e)
+		{
+			e.printStackTrace();
+
+			return "";
+		}
+	}
+
+	/**
+	 * This class represents an immutable entry of the cache of the encoded
+	 * unique resource {@code URL}s.
+	 */
+	private static final class EncodedURL
+	{
+		private final URL url;
+
+		private final String urlString;
+
+		private final String encodedURLString;
+
+		/**
+		 * Constructs an {@link EncodedURL}.
+		 * 
+		 * @param url The unique resource {@code URL}
+		 * @param urlString The {@code String} representation
+		 * @param encodedURLString The encoded {@code String} representation
+		 */
+		EncodedURL(URL url, String urlString, String encodedURLString)
+		{
+			this.url = url;
+			this.urlString = urlString;
+			this.encodedURLString = encodedURLString;
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package org.diretto.api.client.external.processing;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.configuration.XMLConfiguration;
+import org.diretto.api.client.base.external.JacksonConverter;
+import org.restlet.Client;
+import org.restlet.Context;
+import org.restlet.data.Protocol;
+import org.restlet.engine.Engine;
+import org.restlet.engine.converter.ConverterHelper;
+
+/**
+ * This class holds the <i>Restlet</i> {@link Client} which is shared by all
+ * {@link ProcessingServiceImpl} instances. <br/><br/>
+ * 
+ * Since the connector of the {@code Client} only depends on the XML
+ * configuration file, all instances use the same {@code Client} and therefore
+ * the same connection pool. The {@code Client} is started when the first
+ * reference is acquired and stopped when the last reference is released.
+ * <br/><br/>
+ * 
+ * Every HTTP request has to acquire a request permit of its host and a
+ * request permit of the whole connection pool, whose numbers are determined
+ * by the {@code maxConnectionsPerHost} and the {@code maxTotalConnections}
+ * connector parameters. So the concurrent requests of all instances, batches
+ * and jobs never exceed the connection pool together, while instances with
+ * service {@code URL}s on different hosts do not share the limit of a single
+ * host.
+ */
+final class SharedRestletClient
+{
+	private static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 10;
+
+	private static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 20;
+
+	private static SharedRestletClient instance = null;
+
+	private static boolean convertersRegistered = false;
+
+	private final Client client;
+
+	private final int maxConnectionsPerHost;
+
+	private final int maxTotalConnections;
+
+	private final Semaphore totalRequestPermits;
+
+	private final ConcurrentMap<String, Semaphore> hostRequestPermits = new ConcurrentHashMap<String, Semaphore>();
+
+	private int referenceCount = 0;
+
+	/**
+	 * The constructor is {@code private} to have strict control what instances
+	 * exist at any time. Instead of the constructor the <i>static factory
+	 * method</i> {@link #acquire()} returns the instance of the class.
+	 * 
+	 * @param client The <i>Restlet</i> {@code Client}
+	 * @param maxConnectionsPerHost The maximum number of concurrent requests
+	 *        per host
+	 * @param maxTotalConnections The maximum number of concurrent requests
+	 */
+	private SharedRestletClient(Client client, int maxConnectionsPerHost, int maxTotalConnections)
+	{
+		this.client = client;
+		this.maxConnectionsPerHost = maxConnectionsPerHost;
+		this.maxTotalConnections = maxTotalConnections;
+
+		totalRequestPermits = new Semaphore(maxTotalConnections);
+	}
+
+	/**
+	 * Returns the shared {@link SharedRestletClient} instance and increments
+	 * its reference count. If there is no started instance, a new one will be
+	 * created and started.
+	 * 
+	 * @return The {@code SharedRestletClient}
+	 */
+	static synchronized SharedRestletClient acquire()
+	{
+		if(instance == null)
+		{
+			instance = create();
+		}
+
+		instance.referenceCount++;
+
+		return instance;
+	}
+
+	/**
+	 * Decrements the reference count of this {@link SharedRestletClient}. If
+	 * there are no references left, the <i>Restlet</i> {@link Client} will be
+	 * stopped.
+	 */
+	void release()
+	{
+		synchronized(SharedRestletClient.class)
+		{
+			if(referenceCount == 0)
+			{
+				return;
+			}
+
+			referenceCount--;
+
+			if(referenceCount > 0)
+			{
+				return;
+			}
+
+			if(instance == this)
+			{
+				instance = null;
+			}
+		}
+
+		try
+		{
+			client.stop();
+		}
+		catch(Exception e)
+		{
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Returns the <i>Restlet</i> {@link Client}.
+	 * 
+	 * @return The {@code Client}
+	 */
+	Client getClient()
+	{
+		return client;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent requests to a single host,
+	 * which is determined by the {@code maxConnectionsPerHost} and the
+	 * {@code maxTotalConnections} connector parameters.
+	 * 
+	 * @return The maximum number of concurrent requests to a single host
+	 */
+	int getMaxParallelRequests()
+	{
+		return Math.min(maxConnectionsPerHost, maxTotalConnections);
+	}
+
+	/**
+	 * Returns the key of the host of the given {@link URL}, which identifies
+	 * the request permits of the host.
+	 * 
+	 * @param url A {@code URL}
+	 * @return The key of the host
+	 */
+	static String getHostKey(URL url)
+	{
+		int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+
+		return url.getProtocol() + "://" + url.getHost().toLowerCase(Locale.ENGLISH) + ":" + port;
+	}
+
+	/**
+	 * Acquires a request permit of the specified host and a request permit of
+	 * the connection pool and blocks until both are available. Every
+	 * successful invocation must be followed by an invocation of
+	 * {@link #releaseRequestPermit(String)}.
+	 * 
+	 * @param hostKey The key of the host (see {@link #getHostKey(URL)})
+	 * @throws InterruptedException If the current thread has been interrupted
+	 */
+	void acquireRequestPermit(String hostKey) throws InterruptedException
+	{
+		Semaphore hostPermits = getHostRequestPermits(hostKey);
+
+		hostPermits.acquire();
+
+		try
+		{
+			totalRequestPermits.acquire();
+		}
+		catch(InterruptedException e)
+		{
+			hostPermits.release();
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Releases the request permits which have been acquired with
+	 * {@link #acquireRequestPermit(String)}.
+	 * 
+	 * @param hostKey The key of the host (see {@link #getHostKey(URL)})
+	 */
+	void releaseRequestPermit(String hostKey)
+	{
+		totalRequestPermits.release();
+
+		getHostRequestPermits(hostKey).release();
+	}
+
+	/**
+	 * Returns the request permits of the specified host. They are created on
+	 * the first request to the host.
+	 * 
+	 * @param hostKey The key of the host
+	 * @return The {@code Semaphore} of the request permits
+	 */
+	private Semaphore getHostRequestPermits(String hostKey)
+	{
+		Semaphore hostPermits = hostRequestPermits.get(hostKey);
+
+		if(hostPermits == null)
+		{
+			Semaphore newHostPermits = new Semaphore(maxConnectionsPerHost);
+
+			hostPermits = hostRequestPermits.putIfAbsent(hostKey, newHostPermits);
+
+			if(hostPermits == null)
+			{
+				hostPermits = newHostPermits;
+			}
+		}
+
+		return hostPermits;
+	}
+
+	/**
+	 * Creates and starts a new {@link SharedRestletClient} according to the XML
+	 * configuration file.
+	 * 
+	 * @return The {@code SharedRestletClient}
+	 */
+	private static SharedRestletClient create()
+	{
+		XMLConfiguration xmlConfiguration = ProcessingServiceID.INSTANCE.getXMLConfiguration();
+
+		Context restletContext = new Context();
+
+		String[] names = xmlConfiguration.getStringArray("restlet-client/connector-parameters/parameter/@name");
+		String[] values = xmlConfiguration.getStringArray("restlet-client/connector-parameters/parameter/@value");
+
+		int maxConnectionsPerHost = -1;
+		int maxTotalConnections = -1;
+
+		for(int i = 0; i < names.length; i++)
+		{
+			restletContext.getParameters().add(names[i], values[i]);
+
+			if(names[i].equals("maxConnectionsPerHost"))
+			{
+				maxConnectionsPerHost = Integer.parseInt(values[i]);
+			}
+			else if(names[i].equals("maxTotalConnections"))
+			{
+				maxTotalConnections = Integer.parseInt(values[i]);
+			}
+		}
+
+		if(maxConnectionsPerHost <= 0)
+		{
+			maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+		}
+
+		if(maxTotalConnections <= 0)
+		{
+			maxTotalConnections = DEFAULT_MAX_TOTAL_CONNECTIONS;
+		}
+
+		Client client = new Client(restletContext, Protocol.valueOf(xmlConfiguration.getString("restlet-client/connector-protocol")));
+
+		registerConverters();
+
+		try
+		{
+			client.start();
+		}
+		catch(Exception e)
+		{
+			e.printStackTrace();
+		}
+
+		return new SharedRestletClient(client, maxConnectionsPerHost, maxTotalConnections);
+	}
+
+	/**
+	 * Registers the converters of the <i>Restlet</i> {@link Engine}, but only
+	 * once per class loader.
+	 */
+	private static void registerConverters()
+	{
+		if(convertersRegistered)
+		{
+			return;
+		}
+
+		List<ConverterHelper> converters = Engine.getInstance().getRegisteredConverters();
+		converters.clear();
+		converters.add(new JacksonConverter());
+
+		convertersRegistered = true;
+	}
+}